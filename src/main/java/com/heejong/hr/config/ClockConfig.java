@@ -0,0 +1,18 @@
+package com.heejong.hr.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 현재 시각 공급원 (출퇴근 처리 기준 시각, 시뮬레이션/테스트에서 교체 가능)
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,12 @@
+package com.heejong.hr.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (출근 배치 적재 등 백그라운드 작업용)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
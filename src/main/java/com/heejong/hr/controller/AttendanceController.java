@@ -1,11 +1,13 @@
 package com.heejong.hr.controller;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,8 +17,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.entity.AttendanceMonthlySummary;
+import com.heejong.hr.service.AttendanceAbsenceService;
+import com.heejong.hr.service.AttendanceCloseOutService;
+import com.heejong.hr.service.AttendanceEventBroadcaster;
 import com.heejong.hr.service.AttendanceService;
 import com.heejong.hr.service.ReportService;
 
@@ -29,6 +37,9 @@ public class AttendanceController {
 
     private final AttendanceService attendanceService;
     private final ReportService reportService;
+    private final AttendanceEventBroadcaster attendanceEventBroadcaster;
+    private final AttendanceAbsenceService attendanceAbsenceService;
+    private final AttendanceCloseOutService attendanceCloseOutService;
 
     /**
      * 출근 등록
@@ -103,19 +114,20 @@ public class AttendanceController {
     }
 
     /**
-     * 특정 회원의 출퇴근 기록 목록 조회
+     * 특정 회원의 출퇴근 기록 목록 조회 (키셋 페이징)
      */
     @GetMapping("/member/{memberNo}")
     public ResponseEntity<Map<String, Object>> getAttendanceList(
             @PathVariable Long memberNo,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Integer limit) {
         try {
-            List<Attendance> attendanceList = attendanceService.getAttendanceList(memberNo, limit);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("attendanceList", attendanceList);
-
+            Map<String, Object> response = attendanceService.getAttendancePage(memberNo, cursor, limit);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("message", "서버 오류가 발생했습니다.");
@@ -150,17 +162,19 @@ public class AttendanceController {
     }
 
     /**
-     * 모든 출퇴근 기록 조회 (관리자용)
+     * 모든 출퇴근 기록 조회 (관리자용, 키셋 페이징)
      */
     @GetMapping("/all")
-    public ResponseEntity<Map<String, Object>> getAllAttendance(@RequestParam(required = false) Integer limit) {
+    public ResponseEntity<Map<String, Object>> getAllAttendance(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         try {
-            List<Attendance> attendanceList = attendanceService.getAllAttendance(limit);
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("attendanceList", attendanceList);
-
+            Map<String, Object> response = attendanceService.getAttendancePage(null, cursor, limit);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         } catch (Exception e) {
             Map<String, Object> response = new HashMap<>();
             response.put("message", "서버 오류가 발생했습니다.");
@@ -189,18 +203,19 @@ public class AttendanceController {
     }
 
     /**
-     * 출퇴근 기록 삭제
+     * 출퇴근 기록 삭제 (workDate: 기록의 근무일)
      */
     @DeleteMapping("/{attendanceNo}")
-    public ResponseEntity<Map<String, String>> deleteAttendance(@PathVariable Long attendanceNo) {
+    public ResponseEntity<Map<String, String>> deleteAttendance(@PathVariable Long attendanceNo,
+                                                                @RequestParam String workDate) {
         try {
-            attendanceService.deleteAttendance(attendanceNo);
+            attendanceService.deleteAttendance(attendanceNo, LocalDate.parse(workDate));
 
             Map<String, String> response = new HashMap<>();
             response.put("message", "출퇴근 기록이 삭제되었습니다.");
 
             return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | DateTimeParseException e) {
             Map<String, String> response = new HashMap<>();
             response.put("message", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
@@ -228,6 +243,30 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * 오늘 출퇴근 변경 스트림 (boss 대시보드 SSE 구독)
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTodayDashboard() {
+        return attendanceEventBroadcaster.subscribe();
+    }
+
+    /**
+     * 오늘 출근 통계만 조회 (boss 대시보드 폴링용)
+     */
+    @GetMapping("/dashboard/today/stats")
+    public ResponseEntity<Map<String, Object>> getTodayStatistics() {
+        try {
+            Map<String, Object> statistics = attendanceService.getTodayStatistics();
+            return ResponseEntity.ok(statistics);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 출근 통계 조회 (월별)
      */
@@ -247,6 +286,76 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * 전체 직원 출근 통계 조회 (월별)
+     */
+    @GetMapping("/statistics/monthly")
+    public ResponseEntity<Map<String, Object>> getMonthlyStatisticsForAll(
+            @RequestParam int year,
+            @RequestParam int month) {
+        try {
+            List<AttendanceMonthlySummary> statistics = attendanceService.getMonthlyStatisticsForAll(year, month);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("year", year);
+            response.put("month", month);
+            response.put("statistics", statistics);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 기간별 출근/퇴근 시각 분포 조회 (memberNo: 개인, memberNos: 팀, 둘 다 없으면 전체)
+     */
+    @GetMapping("/analytics/time-distribution")
+    public ResponseEntity<Map<String, Object>> getTimeDistribution(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(required = false) Long memberNo,
+            @RequestParam(required = false) List<Long> memberNos,
+            @RequestParam(defaultValue = "10") int bucketMinutes) {
+        try {
+            List<Long> targets = memberNo != null ? List.of(memberNo) : memberNos;
+            Map<String, Object> distribution = attendanceService.getTimeDistribution(
+                    LocalDate.parse(startDate), LocalDate.parse(endDate), targets, bucketMinutes);
+            distribution.put("scope", memberNo != null ? "member"
+                    : (memberNos != null && !memberNos.isEmpty() ? "team" : "company"));
+            return ResponseEntity.ok(distribution);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 회원 연간 출퇴근 달력 조회 (히트맵용 압축 배열)
+     */
+    @GetMapping("/member/{memberNo}/calendar")
+    public ResponseEntity<Map<String, Object>> getYearCalendar(
+            @PathVariable Long memberNo,
+            @RequestParam int year) {
+        try {
+            return ResponseEntity.ok(attendanceService.getYearCalendar(memberNo, year));
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 출근 통계 조회 (연도별)
      */
@@ -265,6 +374,152 @@ public class AttendanceController {
         }
     }
 
+    /**
+     * 월별 출근 요약 재구축 (관리자용)
+     */
+    @PostMapping("/statistics/summary/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildMonthlySummary(@RequestParam(required = false) Integer year) {
+        try {
+            int months = attendanceService.rebuildMonthlySummary(year);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "월별 출근 요약이 재구축되었습니다.");
+            response.put("months", months);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 기간별 전체 직원 출퇴근 기록 스트리밍 내보내기 (format: csv / ndjson)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @RequestParam(defaultValue = "csv") String format) {
+        try {
+            LocalDate start = LocalDate.parse(startDate);
+            LocalDate end = LocalDate.parse(endDate);
+            if (end.isBefore(start)) {
+                throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+            }
+            boolean csv;
+            if ("csv".equalsIgnoreCase(format)) {
+                csv = true;
+            } else if ("ndjson".equalsIgnoreCase(format)) {
+                csv = false;
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+            }
+
+            StreamingResponseBody body = outputStream ->
+                    reportService.streamAttendanceByDateRange(start, end, csv, outputStream);
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", csv ? "text/csv; charset=UTF-8" : "application/x-ndjson")
+                    .header("Content-Disposition",
+                            String.format("attachment; filename=attendance_%s_%s.%s", start, end, csv ? "csv" : "ndjson"))
+                    .body(body);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+
+    /**
+     * 퇴근 누락 자동 처리 즉시 실행 (관리자용)
+     */
+    @PostMapping("/close-out")
+    public ResponseEntity<Map<String, Object>> closeStaleSessions() {
+        try {
+            List<Attendance> closed = attendanceCloseOutService.closeStale();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "퇴근 누락 자동 처리가 완료되었습니다.");
+            response.put("closedCount", closed.size());
+            response.put("attendanceList", closed);
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 확인 필요 기록 조회 (관리자용)
+     */
+    @GetMapping("/review")
+    public ResponseEntity<Map<String, Object>> getReviewQueue(@RequestParam(required = false) Integer limit) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("attendanceList", attendanceService.getReviewQueue(limit));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 확인 완료 처리 (관리자용, workDate: 기록의 근무일)
+     */
+    @PostMapping("/{attendanceNo}/review/resolve")
+    public ResponseEntity<Map<String, Object>> resolveReview(@PathVariable Long attendanceNo,
+                                                             @RequestParam String workDate) {
+        try {
+            attendanceService.resolveReview(attendanceNo, LocalDate.parse(workDate));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "확인 처리되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 특정 날짜 결근 처리 (관리자용, 누락된 날짜 보정)
+     */
+    @PostMapping("/absence/materialize")
+    public ResponseEntity<Map<String, Object>> materializeAbsences(@RequestParam String workDate) {
+        try {
+            int inserted = attendanceAbsenceService.materialize(LocalDate.parse(workDate));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "결근 처리가 완료되었습니다.");
+            response.put("insertedCount", inserted);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 출근 리포트 엑셀 다운로드
      */
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,12 +15,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.heejong.hr.entity.PayrollRun;
 import com.heejong.hr.entity.Salary;
 import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.service.DeductionRules;
+import com.heejong.hr.service.PayrollRunService;
+import com.heejong.hr.service.PayrollSimulationService;
+import com.heejong.hr.service.PayslipService;
 import com.heejong.hr.service.SalaryService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +38,10 @@ import lombok.RequiredArgsConstructor;
 public class SalaryController {
 
     private final SalaryService salaryService;
+    private final PayrollRunService payrollRunService;
+    private final PayrollSimulationService payrollSimulationService;
+    private final PayslipService payslipService;
+    private final DeductionRules deductionRules;
 
     // ========== 급여 정보 관리 ==========
 
@@ -95,6 +108,23 @@ public class SalaryController {
         }
     }
 
+    /**
+     * 특정 회원의 급여 정보 이력 조회 (적용일순)
+     */
+    @GetMapping("/member/{memberNo}/history")
+    public ResponseEntity<Map<String, Object>> getSalaryHistory(@PathVariable Long memberNo) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("history", salaryService.getSalaryHistory(memberNo));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 모든 급여 정보 조회
      */
@@ -150,7 +180,7 @@ public class SalaryController {
             int month = Integer.parseInt(body.get("month").toString());
             Integer workDays = body.get("workDays") != null ? Integer.parseInt(body.get("workDays").toString()) : null;
             Integer workHours = body.get("workHours") != null ? Integer.parseInt(body.get("workHours").toString()) : null;
-            BigDecimal overtimePay = body.get("overtimePay") != null ? new BigDecimal(body.get("overtimePay").toString()) : BigDecimal.ZERO;
+            BigDecimal overtimePay = body.get("overtimePay") != null ? new BigDecimal(body.get("overtimePay").toString()) : null;
             BigDecimal bonus = body.get("bonus") != null ? new BigDecimal(body.get("bonus").toString()) : BigDecimal.ZERO;
 
             SalaryPayment payment = salaryService.createSalaryPayment(memberNo, year, month, workDays, workHours, overtimePay, bonus);
@@ -217,6 +247,88 @@ public class SalaryController {
         }
     }
 
+    /**
+     * 급여 지급 내역 목록 조회 (키셋 페이징)
+     */
+    @GetMapping("/payment/page")
+    public ResponseEntity<Map<String, Object>> getPaymentPage(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            Map<String, Object> response = salaryService.getPaymentPage(year, month, status, cursor, limit);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 지급월/상태별 급여 합계 조회
+     */
+    @GetMapping("/payment/summary")
+    public ResponseEntity<Map<String, Object>> getPaymentSummary(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month) {
+        try {
+            Map<String, Object> response = salaryService.getPaymentSummary(year, month);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 급여명세서 PDF 다운로드
+     */
+    @GetMapping("/payment/{salaryPaymentNo}/payslip")
+    public ResponseEntity<byte[]> downloadPayslip(@PathVariable Long salaryPaymentNo) {
+        try {
+            byte[] pdfData = payslipService.exportPayslipToPdf(salaryPaymentNo);
+
+            return ResponseEntity.ok()
+                    .header("Content-Type", "application/pdf")
+                    .header("Content-Disposition",
+                            String.format("attachment; filename=payslip_%d.pdf", salaryPaymentNo))
+                    .body(pdfData);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 해당 월 전 직원 급여명세서 ZIP 스트리밍 다운로드
+     */
+    @GetMapping("/payslips")
+    public ResponseEntity<StreamingResponseBody> downloadPayslips(@RequestParam int year, @RequestParam int month) {
+        if (month < 1 || month > 12) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        StreamingResponseBody body = outputStream -> payslipService.streamPayslipZip(year, month, outputStream);
+
+        return ResponseEntity.ok()
+                .header("Content-Type", "application/zip")
+                .header("Content-Disposition",
+                        String.format("attachment; filename=payslips_%d_%02d.zip", year, month))
+                .body(body);
+    }
+
     /**
      * 특정 회원의 급여 지급 내역 조회
      */
@@ -308,4 +420,189 @@ public class SalaryController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
+
+    /**
+     * 전 직원 월 급여 일괄 지급 시작 (끝나지 않은 실행이 있으면 마지막 커밋 구간 다음부터 이어서 진행)
+     *
+     * Idempotency-Key 헤더를 주면 같은 키로 다시 요청해도 새 실행을 만들지 않는다.
+     */
+    @PostMapping("/payroll-run")
+    public ResponseEntity<Map<String, Object>> startPayrollRun(
+            @RequestBody Map<String, Object> body,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        try {
+            int year = Integer.parseInt(body.get("year").toString());
+            int month = Integer.parseInt(body.get("month").toString());
+            if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 100)) {
+                throw new IllegalArgumentException("멱등 키는 1~100자여야 합니다.");
+            }
+
+            PayrollRun run = payrollRunService.start(year, month, idempotencyKey);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "급여 일괄 지급이 시작되었습니다.");
+            response.put("run", run);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 급여 일괄 지급 진행 상황 조회
+     */
+    @GetMapping("/payroll-run/{runNo}")
+    public ResponseEntity<Map<String, Object>> getPayrollRun(@PathVariable Long runNo) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("run", payrollRunService.getRun(runNo));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 급여 일괄 지급 구간 커밋 기록 조회
+     */
+    @GetMapping("/payroll-run/{runNo}/chunks")
+    public ResponseEntity<Map<String, Object>> getPayrollRunChunks(@PathVariable Long runNo) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("chunks", payrollRunService.getChunks(runNo));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 급여 일괄 지급 계산 실패 회원 조회 (다시 시작하면 이 회원들부터 재시도)
+     */
+    @GetMapping("/payroll-run/{runNo}/failures")
+    public ResponseEntity<Map<String, Object>> getPayrollRunFailures(@PathVariable Long runNo) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("failures", payrollRunService.getFailures(runNo));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 해당 월의 가장 최근 급여 일괄 지급 조회
+     */
+    @GetMapping("/payroll-run")
+    public ResponseEntity<Map<String, Object>> getLatestPayrollRun(@RequestParam int year, @RequestParam int month) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("run", payrollRunService.getLatestRun(year, month));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 급여 모의 계산 (저장하지 않음, 지급월 급여에 인상률/수당 변경 시나리오 적용 전후 비교)
+     */
+    @PostMapping("/simulation")
+    public ResponseEntity<Map<String, Object>> simulatePayroll(@RequestBody Map<String, Object> body) {
+        try {
+            int year = Integer.parseInt(body.get("year").toString());
+            int month = Integer.parseInt(body.get("month").toString());
+            BigDecimal raisePercent = body.get("raisePercent") != null ? new BigDecimal(body.get("raisePercent").toString()) : null;
+            Long allowanceDelta = body.get("allowanceDelta") != null ? Long.parseLong(body.get("allowanceDelta").toString()) : null;
+            Long bonus = body.get("bonus") != null ? Long.parseLong(body.get("bonus").toString()) : null;
+            boolean refresh = body.get("refresh") != null && Boolean.parseBoolean(body.get("refresh").toString());
+            boolean includeMembers = body.get("includeMembers") == null || Boolean.parseBoolean(body.get("includeMembers").toString());
+
+            Set<Long> memberNos = null;
+            if (body.get("memberNos") instanceof List<?> list) {
+                memberNos = list.stream().map(value -> Long.parseLong(value.toString())).collect(Collectors.toSet());
+            }
+
+            PayrollSimulationService.Scenario scenario = PayrollSimulationService.Scenario.of(raisePercent, allowanceDelta, bonus);
+            return ResponseEntity.ok(payrollSimulationService.simulate(year, month, scenario, memberNos, refresh, includeMembers));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 연도별 공제율 조회
+     */
+    @GetMapping("/deduction-rates")
+    public ResponseEntity<Map<String, Object>> getDeductionRates() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("tables", deductionRules.getTables());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 공제율 다시 읽기 (deduction_rate 테이블 변경 후)
+     */
+    @PostMapping("/deduction-rates/reload")
+    public ResponseEntity<Map<String, Object>> reloadDeductionRates() {
+        try {
+            deductionRules.reload();
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "공제율을 다시 읽었습니다.");
+            response.put("tables", deductionRules.getTables());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
 }
@@ -0,0 +1,187 @@
+package com.heejong.hr.controller;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.heejong.hr.entity.WorkSchedule;
+import com.heejong.hr.service.WorkScheduleService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/work-schedule")
+@RequiredArgsConstructor
+public class WorkScheduleController {
+
+    private final WorkScheduleService workScheduleService;
+
+    /**
+     * 근무 일정 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getAllSchedules() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("schedules", workScheduleService.getAllSchedules());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 근무 일정 등록
+     * body: name, startTime(HH:mm), endTime(HH:mm), flexMinutes, minWorkMinutes, isDefault
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createSchedule(@RequestBody Map<String, Object> body) {
+        try {
+            WorkSchedule schedule = workScheduleService.createSchedule(toSchedule(body));
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "근무 일정이 등록되었습니다.");
+            response.put("schedule", schedule);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 근무 일정 수정
+     */
+    @PutMapping("/{scheduleNo}")
+    public ResponseEntity<Map<String, Object>> updateSchedule(
+            @PathVariable Long scheduleNo,
+            @RequestBody Map<String, Object> body) {
+        try {
+            WorkSchedule schedule = toSchedule(body);
+            schedule.setScheduleNo(scheduleNo);
+            workScheduleService.updateSchedule(schedule);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "근무 일정이 수정되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 근무 일정 삭제
+     */
+    @DeleteMapping("/{scheduleNo}")
+    public ResponseEntity<Map<String, Object>> deleteSchedule(@PathVariable Long scheduleNo) {
+        try {
+            workScheduleService.deleteSchedule(scheduleNo);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "근무 일정이 삭제되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 회원 근무 일정 배정 (scheduleNo 가 없으면 해제)
+     */
+    @PutMapping("/assignment/member/{memberNo}")
+    public ResponseEntity<Map<String, Object>> assignMember(
+            @PathVariable Long memberNo,
+            @RequestParam(required = false) Long scheduleNo) {
+        try {
+            workScheduleService.assignMember(memberNo, scheduleNo);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", scheduleNo != null ? "근무 일정이 배정되었습니다." : "근무 일정 배정이 해제되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 역할 근무 일정 배정 (scheduleNo 가 없으면 해제)
+     */
+    @PutMapping("/assignment/role/{role}")
+    public ResponseEntity<Map<String, Object>> assignRole(
+            @PathVariable String role,
+            @RequestParam(required = false) Long scheduleNo) {
+        try {
+            workScheduleService.assignRole(role, scheduleNo);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", scheduleNo != null ? "근무 일정이 배정되었습니다." : "근무 일정 배정이 해제되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("message", "서버 오류가 발생했습니다: " + e.getMessage());
+            e.printStackTrace();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    private WorkSchedule toSchedule(Map<String, Object> body) {
+        WorkSchedule schedule = new WorkSchedule();
+        schedule.setName(body.get("name") != null ? body.get("name").toString() : null);
+        schedule.setStartTime(body.get("startTime") != null ? LocalTime.parse(body.get("startTime").toString()) : null);
+        schedule.setEndTime(body.get("endTime") != null ? LocalTime.parse(body.get("endTime").toString()) : null);
+        schedule.setFlexMinutes(body.get("flexMinutes") != null
+                ? Integer.valueOf(body.get("flexMinutes").toString()) : null);
+        schedule.setMinWorkMinutes(body.get("minWorkMinutes") != null
+                ? Integer.valueOf(body.get("minWorkMinutes").toString()) : null);
+        schedule.setIsDefault(body.get("isDefault") != null
+                ? Boolean.valueOf(body.get("isDefault").toString()) : false);
+        return schedule;
+    }
+}
@@ -18,6 +18,7 @@ public class Attendance {
     private String status;          // 상태 (NORMAL: 정상, LATE: 지각, EARLY_LEAVE: 조퇴, ABSENT: 결근)
     private Integer workMinutes;    // 근무 시간 (분)
     private String memo;            // 메모
+    private Boolean needsReview;    // 확인 필요 여부 (자동 퇴근 처리된 기록)
 
     // 조인용 필드
     private String memberId;        // 회원 ID
@@ -0,0 +1,33 @@
+package com.heejong.hr.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AttendanceMonthlySummary {
+
+    private Long memberNo;          // 회원번호 (PK, FK)
+    private Integer summaryYear;    // 연도 (PK)
+    private Integer summaryMonth;   // 월 (PK)
+    private Integer totalDays;      // 출근일수 (결근 제외)
+    private Integer normalDays;     // 정상 출근일수
+    private Integer lateDays;       // 지각일수
+    private Integer earlyLeaveDays; // 조퇴일수
+    private Integer absentDays;     // 결근일수
+    private Integer totalWorkMinutes; // 총 근무시간 (분)
+
+    // 조인용 필드
+    private String memberId;        // 회원 ID
+    private String memberName;      // 회원 이름
+
+    // 총 근무시간 (시간:분 형식)
+    public String getTotalWorkHours() {
+        if (totalWorkMinutes == null) {
+            return "0:00";
+        }
+        int hours = totalWorkMinutes / 60;
+        int minutes = totalWorkMinutes % 60;
+        return String.format("%d:%02d", hours, minutes);
+    }
+}
@@ -0,0 +1,14 @@
+package com.heejong.hr.entity;
+
+import java.math.BigDecimal;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DeductionRate {
+    private Integer effectiveYear;      // 적용 시작 연도 (다음 버전 전까지 적용)
+    private String item;                // 공제 항목 (INCOME_TAX, NATIONAL_PENSION, HEALTH_INSURANCE, EMPLOYMENT_INSURANCE)
+    private BigDecimal rate;            // 공제율 (예: 0.045)
+}
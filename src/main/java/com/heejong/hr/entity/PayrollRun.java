@@ -0,0 +1,37 @@
+package com.heejong.hr.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PayrollRun {
+    private Long runNo;                 // 급여 일괄 지급 번호 (PK)
+    private Integer paymentYear;        // 지급년도
+    private Integer paymentMonth;       // 지급월
+    private String idempotencyKey;      // 멱등 키 (같은 키로 다시 요청하면 같은 실행을 돌려줌)
+    private LocalDate paymentDate;      // 지급일 (실행 시작 시 고정, 재개해도 같은 값)
+    private String status;              // 상태 (RUNNING: 진행중, COMPLETED: 완료, PARTIAL: 계산 실패 회원 있음, FAILED: 실패)
+    private Integer totalCount;         // 전체 회원 수
+    private Integer skippedCount;       // 이미 지급되었거나 급여/연봉 정보가 없어 제외된 회원 수
+    private Integer processedCount;     // 지급 처리된 회원 수
+    private Integer failedCount;        // 계산 실패 회원 수 (연봉 복호화/형식 오류)
+    private Long lastMemberNo;          // 마지막으로 커밋된 구간의 마지막 회원번호 (재개 위치)
+    private Integer chunkCount;         // 커밋된 구간 수
+    private String errorMessage;        // 실패 사유
+    private LocalDateTime startedAt;    // 시작일시
+    private LocalDateTime finishedAt;   // 종료일시
+
+    // 진행률 (%)
+    public int getProgressPercent() {
+        int target = (totalCount != null ? totalCount : 0) - (skippedCount != null ? skippedCount : 0);
+        if (target <= 0) {
+            return "RUNNING".equals(status) ? 0 : 100;
+        }
+        int done = (processedCount != null ? processedCount : 0) + (failedCount != null ? failedCount : 0);
+        return Math.min(100, done * 100 / target);
+    }
+}
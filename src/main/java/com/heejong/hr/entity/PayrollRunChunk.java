@@ -0,0 +1,22 @@
+package com.heejong.hr.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PayrollRunChunk {
+    private Long runNo;                 // 급여 일괄 지급 번호 (FK)
+    private Integer chunkNo;            // 구간 번호 (0부터)
+    private Long firstMemberNo;         // 구간 첫 회원번호
+    private Long lastMemberNo;          // 구간 마지막 회원번호
+    private Integer memberCount;        // 구간 회원 수
+    private Integer insertedCount;      // 등록된 급여 수
+    private Integer skippedCount;       // 제외된 회원 수 (이미 지급, 급여/연봉 정보 없음)
+    private Integer failedCount;        // 계산 실패 회원 수
+    private BigDecimal totalAmount;     // 등록된 급여 총 지급액 합계
+    private LocalDateTime committedAt;  // 커밋일시
+}
@@ -0,0 +1,15 @@
+package com.heejong.hr.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PayrollRunFailure {
+    private Long runNo;                 // 급여 일괄 지급 번호 (FK)
+    private Long memberNo;              // 계산에 실패한 회원번호
+    private String errorMessage;        // 실패 사유
+    private LocalDateTime failedAt;     // 마지막 실패일시
+}
@@ -31,6 +31,7 @@ public class SalaryPayment {
     private String status;              // 상태 (PENDING: 대기, PAID: 지급완료, CANCELLED: 취소)
     private Integer workDays;           // 근무일수
     private Integer workHours;          // 근무시간
+    private Long runNo;                 // 등록한 급여 일괄 지급 번호 (수동 등록은 null)
 
     // 조인용 필드
     private String memberId;            // 회원 ID
@@ -0,0 +1,20 @@
+package com.heejong.hr.entity;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class WorkSchedule {
+    private Long scheduleNo;            // 근무 일정 번호 (PK)
+    private String name;                // 일정 이름 (예: 주간, 시차출근, 단시간, 야간)
+    private LocalTime startTime;        // 근무 시작 시각
+    private LocalTime endTime;          // 근무 종료 시각 (시작보다 이르면 다음 날 종료 = 야간 근무)
+    private Integer flexMinutes;        // 시작 시각 이후 지각으로 보지 않는 유연 시간 (분)
+    private Integer minWorkMinutes;     // 이보다 적게 근무하면 조퇴 (분)
+    private Boolean isDefault;          // 배정되지 않은 회원에게 적용되는 기본 일정 여부
+    private LocalDateTime createdAt;    // 등록일시
+}
@@ -1,26 +1,44 @@
 package com.heejong.hr.mapper;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.entity.AttendanceMonthlySummary;
+import com.heejong.hr.util.AttendanceCursor;
 
 @Mapper
 public interface AttendanceMapper {
 
     /**
-     * 출근 등록
+     * 출근 등록 (같은 날 기록이 이미 있으면 null)
      */
-    int insertCheckIn(Attendance attendance);
+    Attendance insertCheckInReturning(Attendance attendance);
 
     /**
-     * 퇴근 등록
+     * 출근 일괄 등록 (같은 날 이미 출근한 회원은 무시, 등록된 기록만 반환)
      */
-    int updateCheckOut(Attendance attendance);
+    List<Attendance> insertCheckInBatchReturning(@Param("list") List<Attendance> attendanceList);
+
+    /**
+     * 결근 일괄 등록 (회원번호 구간 내 출근 기록도 승인된 휴가도 없는 회원)
+     */
+    int insertAbsences(@Param("workDate") LocalDate workDate,
+                       @Param("fromMemberNo") long fromMemberNo, @Param("toMemberNo") long toMemberNo);
+
+    /**
+     * 퇴근 등록 (근무시간/조퇴를 SQL 에서 계산, 미퇴근 출근 기록이 없으면 null)
+     */
+    Attendance updateCheckOutReturning(@Param("memberNo") Long memberNo, @Param("workDate") LocalDate workDate,
+                                       @Param("checkOutTime") LocalDateTime checkOutTime,
+                                       @Param("minWorkMinutes") int minWorkMinutes);
 
     /**
      * 특정 회원의 특정 날짜 출퇴근 기록 조회
@@ -28,19 +46,20 @@ public interface AttendanceMapper {
     Attendance findByMemberNoAndDate(@Param("memberNo") Long memberNo, @Param("workDate") LocalDate workDate);
 
     /**
-     * 특정 회원의 출퇴근 기록 목록 조회 (최신순)
+     * 출퇴근 번호로 조회 (근무일로 파티션을 좁힘)
      */
-    List<Attendance> findByMemberNo(@Param("memberNo") Long memberNo, @Param("limit") Integer limit);
+    Attendance findByAttendanceNo(@Param("attendanceNo") Long attendanceNo, @Param("workDate") LocalDate workDate);
 
     /**
-     * 특정 회원의 월별 출퇴근 기록 조회
+     * 출퇴근 기록 키셋 페이지 조회 (최신순, memberNo 가 null 이면 전체)
      */
-    List<Attendance> findByMemberNoAndMonth(@Param("memberNo") Long memberNo, @Param("year") int year, @Param("month") int month);
+    List<Attendance> findPage(@Param("memberNo") Long memberNo, @Param("cursor") AttendanceCursor cursor,
+                              @Param("limit") int limit);
 
     /**
-     * 모든 출퇴근 기록 조회 (관리자용)
+     * 특정 회원의 월별 출퇴근 기록 조회
      */
-    List<Attendance> findAll(@Param("limit") Integer limit);
+    List<Attendance> findByMemberNoAndMonth(@Param("memberNo") Long memberNo, @Param("year") int year, @Param("month") int month);
 
     /**
      * 특정 날짜의 모든 출퇴근 기록 조회 (관리자용)
@@ -53,9 +72,9 @@ public interface AttendanceMapper {
     Integer getTotalWorkMinutes(@Param("memberNo") Long memberNo, @Param("year") int year, @Param("month") int month);
 
     /**
-     * 출퇴근 기록 삭제
+     * 출퇴근 기록 삭제 (근무일로 파티션을 좁힘)
      */
-    int deleteAttendance(@Param("attendanceNo") Long attendanceNo);
+    int deleteAttendance(@Param("attendanceNo") Long attendanceNo, @Param("workDate") LocalDate workDate);
 
     /**
      * 특정 회원의 월별 출근 통계 조회
@@ -67,8 +86,86 @@ public interface AttendanceMapper {
      */
     Map<String, Object> getYearlyStatistics(@Param("memberNo") Long memberNo, @Param("year") int year);
 
+    /**
+     * 전체 회원의 월별 출근 통계 조회
+     */
+    List<AttendanceMonthlySummary> findMonthlySummaries(@Param("year") int year, @Param("month") int month);
+
+    /**
+     * 퇴근 기록 없이 남은 출근 일괄 자동 퇴근 처리 (policy: SCHEDULE_END / CAP, 처리된 기록 반환)
+     */
+    List<Attendance> closeStaleSessions(@Param("policy") String policy,
+                                        @Param("defaultStartTime") LocalTime defaultStartTime,
+                                        @Param("defaultEndTime") LocalTime defaultEndTime,
+                                        @Param("maxMinutes") int maxMinutes,
+                                        @Param("graceMinutes") int graceMinutes,
+                                        @Param("now") LocalDateTime now);
+
+    /**
+     * 확인 필요 기록 조회
+     */
+    List<Attendance> findNeedsReview(@Param("limit") int limit);
+
+    /**
+     * 확인 완료 처리 (근무일로 파티션을 좁힘)
+     */
+    int clearNeedsReview(@Param("attendanceNo") Long attendanceNo, @Param("workDate") LocalDate workDate);
+
+    /**
+     * 회원 연간 달력 (dayIndex, status, workMinutes 행 목록)
+     */
+    List<Map<String, Object>> findYearCalendar(@Param("memberNo") Long memberNo, @Param("year") int year);
+
+    /**
+     * 기간별 출근/퇴근 시각 분포 (kind, bucket, count, flagged 행 목록, memberNos 가 없으면 전체 회원)
+     */
+    List<Map<String, Object>> getTimeDistribution(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate,
+                                                  @Param("memberNos") List<Long> memberNos,
+                                                  @Param("bucketCount") int bucketCount);
+
+    /**
+     * 기간별 회원 근무 집계 (근무일수, 근무 분, 근무 일정 최소 근무시간을 넘긴 초과근무 분, memberNo 가 null 이면 전체 회원)
+     */
+    List<Map<String, Object>> getWorkTotals(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                                            @Param("memberNo") Long memberNo,
+                                            @Param("defaultMinWorkMinutes") int defaultMinWorkMinutes,
+                                            @Param("minDailyOvertimeMinutes") int minDailyOvertimeMinutes);
+
+    /**
+     * 월별 출근 요약 재계산 (memberNos 가 null 이면 전체 회원)
+     */
+    int refreshMonthlySummary(@Param("year") int year, @Param("month") int month, @Param("memberNos") List<Long> memberNos);
+
+    /**
+     * 가장 오래된 근무일 조회
+     */
+    LocalDate findFirstWorkDate();
+
     /**
      * 특정 기간의 모든 직원 출근 기록 조회 (리포트용)
      */
     List<Attendance> findByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 기간의 모든 직원 출근 기록 스트리밍 조회 (내보내기용, 트랜잭션 안에서만 사용)
+     */
+    Cursor<Attendance> streamByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // ========== 파티션 관리 ==========
+
+    /**
+     * 해당 월 파티션 생성 (이미 있으면 false)
+     */
+    Boolean ensurePartition(@Param("month") LocalDate month);
+
+    /**
+     * 해당 월 파티션 분리 후 보관 스키마로 이동 (없으면 false)
+     */
+    Boolean archivePartition(@Param("month") LocalDate month);
+
+    /**
+     * 월 파티션 이름 목록 (attendance_YYYYMM)
+     */
+    List<String> findPartitionNames();
 }
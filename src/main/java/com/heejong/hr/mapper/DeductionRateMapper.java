@@ -0,0 +1,14 @@
+package com.heejong.hr.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.heejong.hr.entity.DeductionRate;
+
+@Mapper
+public interface DeductionRateMapper {
+
+    // 모든 연도별 공제율 조회 (적용 연도순)
+    List<DeductionRate> findAll();
+}
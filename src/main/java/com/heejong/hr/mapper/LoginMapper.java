@@ -66,6 +66,22 @@ public interface LoginMapper {
      */
     List<Member> findAll();
 
+    /**
+     * 회원번호 이후 회원 조회 (회원번호순, 급여 일괄 지급 재개용)
+     *
+     * @param afterMemberNo 이 회원번호 이후만 (null 이면 전체)
+     * @return 회원 목록
+     */
+    List<Member> findAllAfter(@Param("afterMemberNo") Long afterMemberNo);
+
+    /**
+     * 회원번호 목록으로 회원 조회 (회원번호순, 급여 일괄 지급 실패 회원 재시도용)
+     *
+     * @param memberNos 회원번호 목록 (비어 있으면 안 됨)
+     * @return 회원 목록
+     */
+    List<Member> findByMemberNos(@Param("memberNos") List<Long> memberNos);
+
     /**
      * 회원 연봉 업데이트
      *
@@ -91,6 +107,20 @@ public interface LoginMapper {
      */
     int updateProfile(@Param("memberNo") Long memberNo, @Param("name") String name, @Param("phone") String phone);
 
+    /**
+     * 최소 회원번호 조회 (회원번호 구간 단위 일괄 작업용)
+     *
+     * @return 최소 회원번호 (회원이 없으면 null)
+     */
+    Long findMinMemberNo();
+
+    /**
+     * 최대 회원번호 조회 (회원번호 구간 단위 일괄 작업용)
+     *
+     * @return 최대 회원번호 (회원이 없으면 null)
+     */
+    Long findMaxMemberNo();
+
     /**
      * 비밀번호 변경
      */
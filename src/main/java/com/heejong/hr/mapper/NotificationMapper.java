@@ -12,6 +12,8 @@ public interface NotificationMapper {
 
     int insert(Notification notification);
 
+    int insertBatch(@Param("list") List<Notification> notifications);
+
     List<Notification> findByMemberNo(@Param("memberNo") Long memberNo, @Param("limit") Integer limit);
 
     int countUnreadByMemberNo(@Param("memberNo") Long memberNo);
@@ -0,0 +1,63 @@
+package com.heejong.hr.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.heejong.hr.entity.PayrollRun;
+import com.heejong.hr.entity.PayrollRunChunk;
+import com.heejong.hr.entity.PayrollRunFailure;
+
+@Mapper
+public interface PayrollRunMapper {
+
+    // 급여 일괄 지급 등록
+    int insertRun(PayrollRun run);
+
+    // 급여 일괄 지급 조회
+    PayrollRun findByRunNo(@Param("runNo") Long runNo);
+
+    // 멱등 키로 급여 일괄 지급 조회
+    PayrollRun findByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    // 해당 월의 가장 최근 급여 일괄 지급 조회
+    PayrollRun findLatest(@Param("year") int year, @Param("month") int month);
+
+    // 해당 월의 끝나지 않은(진행중/실패/계산 실패 회원 있음) 급여 일괄 지급 조회 (재개 대상)
+    PayrollRun findUnfinished(@Param("year") int year, @Param("month") int month);
+
+    // 멱등 키 없는 실행에 멱등 키 기록 (이미 키가 있으면 0)
+    int attachIdempotencyKey(@Param("runNo") Long runNo, @Param("idempotencyKey") String idempotencyKey);
+
+    // 재개 시작 (상태를 진행중으로, 집계와 재개 위치는 유지)
+    int markRunning(@Param("runNo") Long runNo);
+
+    // 전체 회원 수 기록 (커밋된 구간 회원 수 + 남은 회원 수)
+    int updateTotalCount(@Param("runNo") Long runNo, @Param("remainingCount") int remainingCount);
+
+    // 구간 커밋 기록 (추가만 함)
+    int insertChunk(PayrollRunChunk chunk);
+
+    // 재개 위치와 진행 상황 누적 (chunk_count 가 구간 번호와 같을 때만, 0이면 이미 커밋된 구간)
+    int advanceCheckpoint(@Param("chunk") PayrollRunChunk chunk);
+
+    // 구간 커밋 기록 조회
+    List<PayrollRunChunk> findChunks(@Param("runNo") Long runNo);
+
+    // 계산 실패 회원 기록 (이미 있으면 사유와 일시 갱신)
+    int upsertFailures(@Param("list") List<PayrollRunFailure> failures);
+
+    // 계산 실패 회원 조회 (회원번호순)
+    List<PayrollRunFailure> findFailures(@Param("runNo") Long runNo);
+
+    // 재시도로 해결된 실패 회원 삭제
+    int deleteFailures(@Param("runNo") Long runNo, @Param("memberNos") List<Long> memberNos);
+
+    // 실패 회원 재시도 결과 반영 (해결된 회원 수만큼 실패를 지급/제외로 옮김)
+    int resolveFailures(@Param("runNo") Long runNo, @Param("insertedCount") int insertedCount,
+                        @Param("skippedCount") int skippedCount);
+
+    // 종료 기록
+    int finish(@Param("runNo") Long runNo, @Param("status") String status, @Param("errorMessage") String errorMessage);
+}
@@ -1,12 +1,15 @@
 package com.heejong.hr.mapper;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import com.heejong.hr.entity.Salary;
 import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.util.SalaryPaymentCursor;
 
 @Mapper
 public interface SalaryMapper {
@@ -14,22 +17,37 @@ public interface SalaryMapper {
     // ========== 급여 정보 관리 ==========
     
     /**
-     * 급여 정보 등록
+     * 급여 정보 버전 등록 (같은 회원/적용일의 활성 버전이 있으면 그 버전을 수정)
      */
-    int insertSalary(Salary salary);
+    Salary upsertSalaryVersion(Salary salary);
 
     /**
-     * 급여 정보 수정
+     * 급여 정보 수정 (해당 버전 정정)
      */
     int updateSalary(Salary salary);
 
     /**
-     * 특정 회원의 급여 정보 조회
+     * 급여 정보 번호로 조회
+     */
+    Salary findSalaryByNo(@Param("salaryNo") Long salaryNo);
+
+    /**
+     * 특정 회원의 현재 적용 중인 급여 정보 조회
      */
     Salary findByMemberNo(@Param("memberNo") Long memberNo);
 
     /**
-     * 모든 급여 정보 조회
+     * 특정 회원의 급여 정보 이력 조회 (적용일순)
+     */
+    List<Salary> findSalaryHistory(@Param("memberNo") Long memberNo);
+
+    /**
+     * 활성 급여 정보 버전 조회 (as-of 인덱스용, memberNo 가 null 이면 전체)
+     */
+    List<Salary> findActiveVersions(@Param("memberNo") Long memberNo);
+
+    /**
+     * 모든 급여 정보 조회 (회원별 현재 적용 버전)
      */
     List<Salary> findAllSalaries();
 
@@ -77,6 +95,34 @@ public interface SalaryMapper {
      */
     List<SalaryPayment> findAllPayments(@Param("year") Integer year, @Param("month") Integer month);
 
+    /**
+     * 급여 지급 내역 키셋 페이지 조회 (최신 지급월순, 조건이 null 이면 전체)
+     */
+    List<SalaryPayment> findPaymentPage(@Param("year") Integer year, @Param("month") Integer month,
+                                        @Param("status") String status, @Param("cursor") SalaryPaymentCursor cursor,
+                                        @Param("limit") int limit);
+
+    /**
+     * 지급월/상태별 급여 합계 (건수, 총 지급액, 총 공제액, 실 지급액)
+     */
+    List<Map<String, Object>> getPaymentSummary(@Param("year") Integer year, @Param("month") Integer month);
+
+    /**
+     * 해당 월 급여 지급 내역 스트리밍 조회 (급여명세서 일괄 생성용, 트랜잭션 안에서만 사용)
+     */
+    Cursor<SalaryPayment> streamPaymentsByMonth(@Param("year") int year, @Param("month") int month);
+
+    /**
+     * 해당 월 급여가 이미 등록된 회원번호 목록 (afterMemberNo 가 있으면 그 이후 회원만)
+     */
+    List<Long> findPaidMemberNos(@Param("year") int year, @Param("month") int month,
+                                 @Param("afterMemberNo") Long afterMemberNo);
+
+    /**
+     * 급여 지급 일괄 등록 (이미 있는 회원/월은 건너뜀, 실제 등록된 회원번호 반환)
+     */
+    List<Long> insertSalaryPaymentsReturning(@Param("list") List<SalaryPayment> payments);
+
     /**
      * 급여 지급 내역 삭제
      */
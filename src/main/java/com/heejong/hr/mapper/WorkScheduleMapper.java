@@ -0,0 +1,46 @@
+package com.heejong.hr.mapper;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.heejong.hr.entity.WorkSchedule;
+
+@Mapper
+public interface WorkScheduleMapper {
+
+    // 근무 일정 등록
+    int insertSchedule(WorkSchedule schedule);
+
+    // 근무 일정 수정
+    int updateSchedule(WorkSchedule schedule);
+
+    // 근무 일정 삭제 (배정도 함께 삭제)
+    int deleteSchedule(@Param("scheduleNo") Long scheduleNo);
+
+    // 근무 일정 상세 조회
+    WorkSchedule findByScheduleNo(@Param("scheduleNo") Long scheduleNo);
+
+    // 모든 근무 일정 조회
+    List<WorkSchedule> findAll();
+
+    // 기본 일정 해제 (새 기본 일정 지정 전)
+    int clearDefault();
+
+    // 회원별 일정 배정 (이미 있으면 교체)
+    int assignMember(@Param("memberNo") Long memberNo, @Param("scheduleNo") Long scheduleNo);
+
+    // 역할별 일정 배정 (이미 있으면 교체)
+    int assignRole(@Param("role") String role, @Param("scheduleNo") Long scheduleNo);
+
+    // 회원별 배정 해제
+    int unassignMember(@Param("memberNo") Long memberNo);
+
+    // 역할별 배정 해제
+    int unassignRole(@Param("role") String role);
+
+    // 회원별 적용 일정 (회원 배정 우선, 없으면 역할 배정, 둘 다 없으면 행 없음)
+    List<Map<String, Object>> findEffectiveAssignments();
+}
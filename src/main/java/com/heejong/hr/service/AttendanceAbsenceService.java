@@ -0,0 +1,84 @@
+package com.heejong.hr.service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.heejong.hr.mapper.AttendanceMapper;
+import com.heejong.hr.mapper.LoginMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결근 자동 처리
+ *
+ * 출근 기록도 승인된 휴가도 없는 회원의 결근(ABSENT) 행을 회원번호 구간 단위 INSERT ... SELECT 로 만든다.
+ * ON CONFLICT DO NOTHING 이므로 같은 날짜로 여러 번 실행해도 결과가 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceAbsenceService {
+
+    private final AttendanceMapper attendanceMapper;
+    private final LoginMapper loginMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+    private final Clock clock;
+
+    @Value("${attendance.absence.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 매일 전날 결근 처리 (주말 제외)
+     */
+    @Scheduled(cron = "${attendance.absence.cron:0 10 0 * * *}")
+    public void materializeYesterday() {
+        LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+        DayOfWeek dayOfWeek = yesterday.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return;
+        }
+        int inserted = materialize(yesterday);
+        log.info("{} 결근 자동 처리 {}건", yesterday, inserted);
+    }
+
+    /**
+     * 특정 날짜 결근 처리
+     *
+     * @return 새로 등록된 결근 건수
+     */
+    public int materialize(LocalDate workDate) {
+        if (!workDate.isBefore(LocalDate.now(clock))) {
+            throw new IllegalArgumentException("오늘 이후 날짜는 결근 처리할 수 없습니다.");
+        }
+
+        Long minMemberNo = loginMapper.findMinMemberNo();
+        Long maxMemberNo = loginMapper.findMaxMemberNo();
+        if (minMemberNo == null) {
+            return 0;
+        }
+
+        // 구간마다 별도 트랜잭션으로 커밋해 잠금 시간을 짧게 유지
+        int inserted = 0;
+        for (long from = minMemberNo; from <= maxMemberNo; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, maxMemberNo);
+            inserted += attendanceMapper.insertAbsences(workDate, from, to);
+        }
+
+        if (inserted > 0) {
+            transactionTemplate.executeWithoutResult(status ->
+                    attendanceMapper.refreshMonthlySummary(workDate.getYear(), workDate.getMonthValue(), null));
+            // 마감된 월을 다시 처리한 경우 급여용 근무 집계 캐시 비움
+            attendancePayrollFeed.evict(YearMonth.from(workDate));
+        }
+        return inserted;
+    }
+}
@@ -0,0 +1,9 @@
+package com.heejong.hr.service;
+
+import com.heejong.hr.entity.Attendance;
+
+/**
+ * 출근/퇴근 처리 이벤트 (커밋 후 대시보드 구독자에게 전달)
+ */
+public record AttendanceChangedEvent(Attendance attendance) {
+}
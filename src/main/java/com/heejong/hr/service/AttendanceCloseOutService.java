@@ -0,0 +1,97 @@
+package com.heejong.hr.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.mapper.AttendanceMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퇴근 누락 자동 처리
+ *
+ * 퇴근 기록 없이 남은 출근을 UPDATE ... RETURNING 한 문장으로 일괄 퇴근 처리하고 확인 필요(needs_review)로 표시한다.
+ * 퇴근 시각은 정책에 따라 근무 일정 종료 시각(SCHEDULE_END) 또는 출근 후 최대 근무시간(CAP)으로 정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceCloseOutService {
+
+    private static final List<String> POLICIES = List.of("SCHEDULE_END", "CAP");
+
+    private final AttendanceMapper attendanceMapper;
+    private final AttendanceTodayStore attendanceTodayStore;
+    private final TransactionTemplate transactionTemplate;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+    private final Clock clock;
+
+    @Value("${attendance.closeout.policy:SCHEDULE_END}")
+    private String policy;
+
+    @Value("${attendance.closeout.max-minutes:720}")
+    private int maxMinutes;
+
+    @Value("${attendance.closeout.grace-minutes:240}")
+    private int graceMinutes;
+
+    /**
+     * 매일 새벽 퇴근 누락 처리
+     */
+    @Scheduled(cron = "${attendance.closeout.cron:0 30 4 * * *}")
+    public void closeStaleSessions() {
+        List<Attendance> closed = closeStale();
+        if (!closed.isEmpty()) {
+            log.info("퇴근 누락 자동 처리 {}건 (정책: {})", closed.size(), policy);
+        }
+    }
+
+    /**
+     * 퇴근 누락 기록 일괄 퇴근 처리
+     *
+     * @return 자동 퇴근 처리된 기록
+     */
+    public List<Attendance> closeStale() {
+        String normalized = policy.trim().toUpperCase();
+        if (!POLICIES.contains(normalized)) {
+            throw new IllegalStateException("지원하지 않는 자동 퇴근 정책입니다: " + policy);
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<Attendance> closed = transactionTemplate.execute(status -> {
+            List<Attendance> rows = attendanceMapper.closeStaleSessions(normalized,
+                    minuteToTime(WorkShift.DEFAULT.startMinute()), minuteToTime(WorkShift.DEFAULT.endMinute()),
+                    maxMinutes, graceMinutes, now);
+
+            // 처리된 기록이 있는 월별로 해당 회원 요약만 다시 계산
+            Map<YearMonth, List<Long>> byMonth = rows.stream().collect(Collectors.groupingBy(
+                    attendance -> YearMonth.from(attendance.getWorkDate()),
+                    Collectors.mapping(Attendance::getMemberNo, Collectors.toList())));
+            byMonth.forEach((month, memberNos) ->
+                    attendanceMapper.refreshMonthlySummary(month.getYear(), month.getMonthValue(), memberNos));
+            return rows;
+        });
+
+        closed.forEach(attendanceTodayStore::put);
+        // 마감된 월의 기록이 자동 퇴근 처리되었으면 급여용 근무 집계 캐시 비움
+        closed.stream().map(attendance -> YearMonth.from(attendance.getWorkDate())).distinct()
+                .forEach(attendancePayrollFeed::evict);
+        return closed;
+    }
+
+    private static LocalTime minuteToTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
@@ -0,0 +1,142 @@
+package com.heejong.hr.service;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.heejong.hr.entity.Attendance;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * boss 대시보드 SSE 브로드캐스터
+ *
+ * 출근/퇴근 한 건마다 해당 직원의 변경분과 오늘 통계만 담은 이벤트를 한 번 직렬화해서
+ * 연결된 모든 구독자에게 전송한다. 지난 날짜 기록의 정정은 오늘 통계가 바뀌지 않으므로 통계를 빼고 보낸다.
+ * 전송은 전용 스레드에서 처리해 출퇴근 요청을 막지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceEventBroadcaster {
+
+    // 구독 유지 시간 (만료되면 브라우저 EventSource 가 자동 재연결)
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final ObjectMapper objectMapper;
+    private final AttendanceTodayStore attendanceTodayStore;
+    private final Clock clock;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "attendance-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 대시보드 구독 등록
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data("ok"));
+        } catch (IOException e) {
+            emitters.remove(emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * 출근/퇴근 커밋 후 변경분 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+
+        Attendance attendance = event.attendance();
+        Map<String, Object> delta = new HashMap<>();
+        delta.put("memberNo", attendance.getMemberNo());
+        delta.put("id", attendance.getMemberId());
+        delta.put("name", attendance.getMemberName());
+        delta.put("hasAttended", true);
+        delta.put("checkInTime", attendance.getCheckInTime() != null
+                ? attendance.getCheckInTime().format(TIME_FORMATTER)
+                : null);
+        delta.put("checkOutTime", attendance.getCheckOutTime() != null
+                ? attendance.getCheckOutTime().format(TIME_FORMATTER)
+                : null);
+        delta.put("status", attendance.getStatus());
+        delta.put("workMinutes", attendance.getWorkMinutes());
+        delta.put("workHours", attendance.getWorkHours());
+        delta.put("workDate", attendance.getWorkDate() != null ? attendance.getWorkDate().toString() : null);
+        // 대시보드는 오늘 현황이므로 오늘 기록일 때만 통계 포함 (지난 날짜 통계는 DB 재집계라 보내지 않음)
+        if (LocalDate.now(clock).equals(attendance.getWorkDate())) {
+            delta.put("statistics", attendanceTodayStore.getStatistics(attendance.getWorkDate()));
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            log.error("대시보드 이벤트 직렬화 실패", e);
+            return;
+        }
+        dispatcher.execute(() -> broadcast("attendance", json));
+    }
+
+    /**
+     * 연결 유지 및 끊긴 구독자 정리
+     */
+    @Scheduled(fixedDelay = 25000)
+    public void heartbeat() {
+        if (!emitters.isEmpty()) {
+            dispatcher.execute(() -> broadcast("heartbeat", "{}"));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (SseEmitter emitter : emitters) {
+            emitter.complete();
+        }
+        emitters.clear();
+    }
+
+    private void broadcast(String eventName, String json) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(json));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.heejong.hr.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.mapper.AttendanceMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출근 등록 배치 적재 큐 (write-behind)
+ *
+ * 출근 요청을 메모리 큐에 쌓아두고 주기적으로 다중 행 INSERT ... ON CONFLICT 한 번으로 적재한다.
+ * 중복 출근은 등록 전에 AttendanceTodayStore 에서 걸러낸다.
+ * 적재는 항상 별도 트랜잭션(REQUIRES_NEW)으로 하므로 퇴근 처리 중 적재해도 퇴근 트랜잭션이 롤백될 때 다른 회원 출근이 함께 사라지지 않는다.
+ * 적재에 실패한 배치는 도착 순서를 지켜 큐 앞에 되돌리고, max-retries 번 연속 실패하면 한 건씩 등록한다.
+ * 그래도 실패하는 기록과 종료 시까지 적재하지 못한 기록은 이미 출근 처리된 기록이므로 dead-letter 파일(CSV)에 남겨 재등록할 수 있게 한다.
+ * 커밋 후 RETURNING 으로 받은 기록(출퇴근 번호, 회원 이름/아이디)을 오늘 기록 저장소에 반영하고 대시보드에 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceIngestQueue {
+
+    private final AttendanceMapper attendanceMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final AttendanceTodayStore attendanceTodayStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${attendance.ingest.batch-enabled:false}")
+    private boolean enabled;
+
+    @Value("${attendance.ingest.batch-size:500}")
+    private int batchSize;
+
+    // 배치 적재 연속 실패 허용 횟수 (넘으면 한 건씩 등록)
+    @Value("${attendance.ingest.max-retries:3}")
+    private int maxRetries;
+
+    // 적재하지 못한 출근 기록을 남길 파일 (CSV, 이어쓰기)
+    @Value("${attendance.ingest.dead-letter-file:attendance-ingest-dead-letter.csv}")
+    private Path deadLetterFile;
+
+    // 종료 시 재시도 간격
+    private static final long SHUTDOWN_RETRY_DELAY_MS = 1_000;
+
+    private TransactionTemplate transactionTemplate;
+
+    // 배치 적재 연속 실패 횟수 (flush 는 synchronized)
+    private int consecutiveFailures;
+
+    private final BlockingDeque<Attendance> pending = new LinkedBlockingDeque<>();
+
+    // 적재 대기 중인 회원번호
+    private final Set<Long> pendingMembers = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 출근 기록을 큐에 등록
+     */
+    public void offer(Attendance attendance) {
+        pendingMembers.add(attendance.getMemberNo());
+        pending.add(attendance);
+    }
+
+    /**
+     * 해당 회원의 출근 기록이 아직 적재 대기 중이면 즉시 적재 (퇴근 처리 전 호출)
+     */
+    public void flushIfPending(Long memberNo) {
+        if (pendingMembers.contains(memberNo)) {
+            flush();
+        }
+    }
+
+    /**
+     * 대기 중인 출근 기록을 batchSize 단위로 적재
+     */
+    @Scheduled(fixedDelayString = "${attendance.ingest.flush-interval-ms:200}")
+    public synchronized void flush() {
+        drain(true);
+    }
+
+    /**
+     * 대기 중인 기록을 모두 적재
+     *
+     * @param splitOnFailure max-retries 번 연속 실패한 배치를 한 건씩 등록할지 여부
+     * @return 큐를 모두 비웠으면 true, 실패한 배치를 큐 앞에 되돌렸으면 false
+     */
+    private boolean drain(boolean splitOnFailure) {
+        List<Attendance> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                List<Attendance> saved = transactionTemplate.execute(status -> insertBatch(batch));
+                consecutiveFailures = 0;
+                saved.forEach(this::applySaved);
+            } catch (RuntimeException e) {
+                if (++consecutiveFailures < maxRetries || !splitOnFailure) {
+                    // ON CONFLICT DO NOTHING 이므로 다음 주기에 다시 적재해도 안전
+                    log.error("출근 배치 적재 실패 ({}건, {}회째), 다음 주기에 재시도합니다.", batch.size(), consecutiveFailures, e);
+                    requeue(batch);
+                    return false;
+                }
+                log.error("출근 배치 적재 {}회 연속 실패 ({}건), 한 건씩 등록합니다.", consecutiveFailures, batch.size(), e);
+                consecutiveFailures = 0;
+                insertEach(batch);
+            }
+            // 저장소 반영 후 대기 표시 해제 (퇴근 처리는 그 전까지 flush 에서 기다림)
+            for (Attendance attendance : batch) {
+                pendingMembers.remove(attendance.getMemberNo());
+            }
+            batch.clear();
+        }
+        return true;
+    }
+
+    /**
+     * 실패한 배치를 큐 앞에 원래 순서대로 되돌림 (그 사이 들어온 기록보다 먼저 적재)
+     */
+    private void requeue(List<Attendance> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            pending.addFirst(batch.get(i));
+        }
+    }
+
+    /**
+     * 일괄 등록 후 해당 회원들의 월별 요약 재계산
+     */
+    private List<Attendance> insertBatch(List<Attendance> batch) {
+        List<Attendance> saved = attendanceMapper.insertCheckInBatchReturning(batch);
+
+        Map<YearMonth, List<Long>> membersByMonth = new HashMap<>();
+        for (Attendance attendance : batch) {
+            membersByMonth.computeIfAbsent(YearMonth.from(attendance.getWorkDate()), ym -> new ArrayList<>())
+                    .add(attendance.getMemberNo());
+        }
+        membersByMonth.forEach((ym, memberNos) ->
+                attendanceMapper.refreshMonthlySummary(ym.getYear(), ym.getMonthValue(), memberNos));
+        return saved;
+    }
+
+    /**
+     * 한 건씩 별도 트랜잭션으로 등록 (실패한 기록은 dead-letter 파일에 남김)
+     */
+    private void insertEach(List<Attendance> batch) {
+        for (Attendance attendance : batch) {
+            Attendance saved;
+            try {
+                saved = transactionTemplate.execute(status -> {
+                    Attendance inserted = attendanceMapper.insertCheckInReturning(attendance);
+                    attendanceMapper.refreshMonthlySummary(attendance.getWorkDate().getYear(),
+                            attendance.getWorkDate().getMonthValue(), List.of(attendance.getMemberNo()));
+                    return inserted;
+                });
+            } catch (RuntimeException e) {
+                log.error("출근 기록 적재 포기 (회원번호 {}, 근무일 {}, 출근 {}): {}", attendance.getMemberNo(),
+                        attendance.getWorkDate(), attendance.getCheckInTime(), e.getMessage());
+                deadLetter(List.of(attendance), e.getMessage());
+                // 저장되지 않은 기록이 저장소에 남아 다시 출근을 막지 않도록 제거
+                attendanceTodayStore.release(attendance);
+                continue;
+            }
+            if (saved != null) {
+                applySaved(saved);
+            }
+        }
+    }
+
+    /**
+     * 적재된 기록을 저장소에 반영 (출근 시 넣어 둔 번호 없는 기록을 교체)하고 대시보드에 알림
+     */
+    private void applySaved(Attendance saved) {
+        attendanceTodayStore.put(saved);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(saved));
+    }
+
+    /**
+     * 적재하지 못한 기록을 dead-letter 파일에 추가
+     * (기록 시각, 회원번호, 근무일, 출근 시각, 상태, 메모, 사유) - 파일에도 쓰지 못하면 기록 전체를 에러 로그로 남김
+     */
+    private synchronized void deadLetter(List<Attendance> rows, String reason) {
+        boolean created = Files.notExists(deadLetterFile);
+        try (BufferedWriter writer = Files.newBufferedWriter(deadLetterFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (created) {
+                writer.write("failed_at,member_no,work_date,check_in_time,status,memo,reason");
+                writer.newLine();
+            }
+            String failedAt = LocalDateTime.now().toString();
+            for (Attendance attendance : rows) {
+                writer.write(String.join(",", failedAt, String.valueOf(attendance.getMemberNo()),
+                        String.valueOf(attendance.getWorkDate()), String.valueOf(attendance.getCheckInTime()),
+                        csv(attendance.getStatus()), csv(attendance.getMemo()), csv(reason)));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.error("dead-letter 파일 {} 기록 실패", deadLetterFile, e);
+            for (Attendance attendance : rows) {
+                log.error("유실된 출근 기록: 회원번호 {}, 근무일 {}, 출근 {}, 상태 {}, 메모 {}", attendance.getMemberNo(),
+                        attendance.getWorkDate(), attendance.getCheckInTime(), attendance.getStatus(), attendance.getMemo());
+            }
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * 종료 전 남은 기록을 동기로 적재
+     * (max-retries 번까지 재시도, 그래도 남은 기록은 DB 장애일 수 있으므로 한 건씩 시도하지 않고 dead-letter 파일에 남김)
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        int attempts = Math.max(1, maxRetries);
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            if (drain(false)) {
+                return;
+            }
+            if (attempt == attempts) {
+                break;
+            }
+            try {
+                Thread.sleep(SHUTDOWN_RETRY_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        List<Attendance> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        deadLetter(remaining, "종료 전 적재 실패");
+        log.error("종료 전 출근 기록 {}건을 적재하지 못해 {} 에 남겼습니다.", remaining.size(), deadLetterFile.toAbsolutePath());
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.heejong.hr.service;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.heejong.hr.mapper.AttendanceMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출퇴근 월 파티션 관리
+ *
+ * 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만들고,
+ * retention-months 가 설정되어 있으면 그보다 오래된 파티션을 분리해 hr_archive 스키마로 옮긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendancePartitionService {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final AttendanceMapper attendanceMapper;
+    private final Clock clock;
+
+    @Value("${attendance.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${attendance.partition.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * 매일 새벽 파티션 점검
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void maintain() {
+        YearMonth current = YearMonth.now(clock);
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (Boolean.TRUE.equals(attendanceMapper.ensurePartition(month.atDay(1)))) {
+                log.info("출퇴근 파티션 생성: {}", month);
+            }
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths - 1L);
+        for (String name : attendanceMapper.findPartitionNames()) {
+            YearMonth month = YearMonth.parse(name.substring("attendance_".length()), PARTITION_SUFFIX);
+            if (month.isBefore(oldestKept)
+                    && Boolean.TRUE.equals(attendanceMapper.archivePartition(month.atDay(1)))) {
+                log.info("출퇴근 파티션 보관: {}", month);
+            }
+        }
+    }
+}
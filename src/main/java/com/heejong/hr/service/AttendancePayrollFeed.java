@@ -0,0 +1,105 @@
+package com.heejong.hr.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.heejong.hr.mapper.AttendanceMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여용 월 근무 집계 (근무일수, 근무시간, 초과근무)
+ *
+ * 전 직원 한 달 집계를 집계 쿼리 한 번으로 읽는다. 마감된 월(월말 + closed-after-days 경과)은
+ * 더 바뀌지 않으므로 월별로 캐시하고, 진행 중인 월은 매번 새로 집계한다.
+ * 초과근무수당 = 기본급 / 월 소정근로시간 x 초과근무 시간 x 가산율 (원 단위 반올림).
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendancePayrollFeed {
+
+    private final AttendanceMapper attendanceMapper;
+    private final Clock clock;
+
+    // 초과근무 가산율 (통상임금 대비)
+    @Value("${payroll.overtime.rate:1.5}")
+    private BigDecimal overtimeRate;
+
+    // 월 소정근로시간 (시간당 통상임금 계산 기준)
+    @Value("${payroll.overtime.monthly-standard-hours:209}")
+    private int monthlyStandardHours;
+
+    // 하루 초과근무로 인정하는 최소 분 (미만이면 그날은 0)
+    @Value("${payroll.overtime.min-daily-minutes:0}")
+    private int minDailyOvertimeMinutes;
+
+    // 월말 후 며칠이 지나면 마감으로 보고 캐시할지 (퇴근 누락/결근 자동 처리 반영 기간)
+    @Value("${payroll.attendance.closed-after-days:3}")
+    private int closedAfterDays;
+
+    private final Map<YearMonth, Map<Long, MonthlyWork>> closedMonths = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 월 전 직원 근무 집계 (출퇴근 기록이 없는 회원은 빠짐)
+     */
+    public Map<Long, MonthlyWork> monthlyWork(YearMonth month) {
+        if (!isClosed(month)) {
+            return load(month, null);
+        }
+        return closedMonths.computeIfAbsent(month, key -> load(key, null));
+    }
+
+    /**
+     * 회원 한 명의 월 근무 집계 (마감된 월은 전 직원 캐시에서, 진행 중인 월은 그 회원만 집계)
+     */
+    public MonthlyWork monthlyWorkOf(YearMonth month, Long memberNo) {
+        Map<Long, MonthlyWork> works = isClosed(month) ? monthlyWork(month) : load(month, memberNo);
+        return works.getOrDefault(memberNo, MonthlyWork.NONE);
+    }
+
+    /**
+     * 초과근무수당 (원 단위 반올림)
+     */
+    public BigDecimal overtimePay(BigDecimal baseSalary, int overtimeMinutes) {
+        if (baseSalary == null || overtimeMinutes <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return baseSalary
+                .multiply(BigDecimal.valueOf(overtimeMinutes))
+                .multiply(overtimeRate)
+                .divide(BigDecimal.valueOf(monthlyStandardHours * 60L), 0, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 마감된 월 캐시 삭제 (지난 달 출퇴근 기록 정정 시)
+     */
+    public void evict(YearMonth month) {
+        closedMonths.remove(month);
+    }
+
+    private boolean isClosed(YearMonth month) {
+        LocalDate closedOn = month.plusMonths(1).atDay(1).plusDays(closedAfterDays);
+        return !LocalDate.now(clock).isBefore(closedOn);
+    }
+
+    private Map<Long, MonthlyWork> load(YearMonth month, Long memberNo) {
+        Map<Long, MonthlyWork> works = new HashMap<>();
+        for (Map<String, Object> row : attendanceMapper.getWorkTotals(month.atDay(1), month.plusMonths(1).atDay(1),
+                memberNo, WorkShift.DEFAULT.minWorkMinutes(), minDailyOvertimeMinutes)) {
+            works.put(((Number) row.get("memberNo")).longValue(), new MonthlyWork(
+                    ((Number) row.get("workDays")).intValue(),
+                    ((Number) row.get("workMinutes")).intValue(),
+                    ((Number) row.get("overtimeMinutes")).intValue()));
+        }
+        return Map.copyOf(works);
+    }
+}
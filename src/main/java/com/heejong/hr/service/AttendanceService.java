@@ -1,21 +1,29 @@
 package com.heejong.hr.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.entity.AttendanceMonthlySummary;
 import com.heejong.hr.entity.Member;
 import com.heejong.hr.mapper.AttendanceMapper;
+import com.heejong.hr.util.AttendanceCursor;
 import com.heejong.hr.service.EmployeeService;
 
 import lombok.RequiredArgsConstructor;
@@ -26,40 +34,70 @@ public class AttendanceService {
 
     private final AttendanceMapper attendanceMapper;
     private final EmployeeService employeeService;
+    private final AttendanceIngestQueue attendanceIngestQueue;
+    private final AttendanceTodayStore attendanceTodayStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WorkScheduleRules workScheduleRules;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+    private final Clock clock;
 
-    // 정상 출근 기준 시간 (9시)
-    private static final LocalTime NORMAL_CHECK_IN_TIME = LocalTime.of(9, 0);
+    // 하루 분 수 (시각 분포 구간 계산용)
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // 연간 달력 상태 코드 (인덱스가 코드)
+    private static final List<String> CALENDAR_STATUSES = List.of("NONE", "NORMAL", "LATE", "EARLY_LEAVE", "ABSENT");
+
+    // 출퇴근 기록 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
 
     /**
      * 출근 등록
      */
     @Transactional
     public Attendance checkIn(Long memberNo, String memo) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // 회원 근무 일정 기준 근무일/지각 판단 (메모리 조회)
+        WorkShift shift = workScheduleRules.shiftOf(memberNo);
+        LocalDate today = shift.workDate(now);
+
+        // 배치 적재 모드: 메모리에서 중복 확인 후 커밋되면 큐에 등록 (야간 근무의 자정 이후 출근은 바로 등록)
+        // 롤백되면 저장소에 먼저 넣어 둔 기록을 빼서 다시 출근할 수 있게 함
+        if (attendanceIngestQueue.isEnabled() && today.equals(now.toLocalDate())) {
+            Attendance attendance = newCheckIn(memberNo, today, now, shift, memo);
+            if (!attendanceTodayStore.putIfAbsent(attendance)) {
+                throw new IllegalArgumentException("이미 출근 처리되었습니다.");
+            }
+            afterCompletion(() -> attendanceIngestQueue.offer(attendance),
+                    () -> attendanceTodayStore.release(attendance));
+            eventPublisher.publishEvent(new AttendanceChangedEvent(attendance));
+            return attendance;
+        }
 
-        // 오늘 이미 출근했는지 확인
-        Attendance existing = attendanceMapper.findByMemberNoAndDate(memberNo, today);
-        if (existing != null) {
+        // 한 문장으로 등록 (같은 날 기록이 있으면 null → 중복 출근)
+        Attendance saved = attendanceMapper.insertCheckInReturning(newCheckIn(memberNo, today, now, shift, memo));
+        if (saved == null) {
             throw new IllegalArgumentException("이미 출근 처리되었습니다.");
         }
+        refreshMonthlySummary(memberNo, today);
 
-        // 출근 상태 판단 (9시 기준)
-        String status = "NORMAL";
-        if (now.toLocalTime().isAfter(NORMAL_CHECK_IN_TIME)) {
-            status = "LATE"; // 지각
-        }
+        afterCompletion(() -> attendanceTodayStore.put(saved), null);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(saved));
+        return saved;
+    }
 
+    /**
+     * 출근 기록 생성 (근무 일정 기준 정상/지각 판단)
+     */
+    private Attendance newCheckIn(Long memberNo, LocalDate today, LocalDateTime now, WorkShift shift, String memo) {
         Attendance attendance = new Attendance();
         attendance.setMemberNo(memberNo);
         attendance.setWorkDate(today);
         attendance.setCheckInTime(now);
-        attendance.setStatus(status);
+        attendance.setStatus(shift.checkInStatus(now));
         attendance.setMemo(memo);
-
-        attendanceMapper.insertCheckIn(attendance);
-
-        return attendanceMapper.findByMemberNoAndDate(memberNo, today);
+        return attendance;
     }
 
     /**
@@ -67,50 +105,83 @@ public class AttendanceService {
      */
     @Transactional
     public Attendance checkOut(Long memberNo) {
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
-
-        // 오늘 출근 기록 조회
-        Attendance attendance = attendanceMapper.findByMemberNoAndDate(memberNo, today);
-        if (attendance == null) {
-            throw new IllegalArgumentException("출근 기록이 없습니다.");
-        }
-
-        if (attendance.getCheckOutTime() != null) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // 회원 근무 일정 기준 근무일/조퇴 기준 (야간 근무는 다음 날 퇴근해도 전날 근무일)
+        WorkShift shift = workScheduleRules.shiftOf(memberNo);
+        LocalDate today = shift.workDate(now);
+
+        // 아직 적재되지 않은 출근 기록이 있으면 먼저 적재
+        attendanceIngestQueue.flushIfPending(memberNo);
+
+        // 한 문장으로 퇴근 처리 (근무시간, 조퇴 판단은 SQL 에서 계산)
+        Attendance saved = attendanceMapper.updateCheckOutReturning(memberNo, today, now, shift.minWorkMinutes());
+        if (saved == null) {
+            // 실패한 경우에만 원인 확인
+            Attendance attendance = attendanceMapper.findByMemberNoAndDate(memberNo, today);
+            if (attendance == null || attendance.getCheckInTime() == null) {
+                throw new IllegalArgumentException("출근 기록이 없습니다.");
+            }
             throw new IllegalArgumentException("이미 퇴근 처리되었습니다.");
         }
+        refreshMonthlySummary(memberNo, today);
 
-        // 근무 시간 계산 (분 단위)
-        long workMinutes = ChronoUnit.MINUTES.between(attendance.getCheckInTime(), now);
+        afterCompletion(() -> attendanceTodayStore.put(saved), null);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(saved));
+        return saved;
+    }
 
-        // 조퇴 판단 (8시간 = 480분 미만이면 조퇴)
-        String status = attendance.getStatus();
-        if (workMinutes < 480 && "NORMAL".equals(status)) {
-            status = "EARLY_LEAVE";
+    /**
+     * 트랜잭션이 커밋되면 onCommit, 롤백되면 onRollback 실행 (트랜잭션 밖이면 onCommit 바로 실행)
+     *
+     * 오늘 기록 저장소는 DB 에 반영된 기록만 갖도록 커밋 후에 갱신한다.
+     */
+    private static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
         }
-
-        attendance.setCheckOutTime(now);
-        attendance.setWorkMinutes((int) workMinutes);
-        attendance.setStatus(status);
-
-        attendanceMapper.updateCheckOut(attendance);
-
-        return attendanceMapper.findByMemberNoAndDate(memberNo, today);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (onRollback != null) {
+                    onRollback.run();
+                }
+            }
+        });
     }
 
     /**
      * 오늘의 출퇴근 기록 조회
      */
     public Attendance getTodayAttendance(Long memberNo) {
-        LocalDate today = LocalDate.now();
-        return attendanceMapper.findByMemberNoAndDate(memberNo, today);
+        LocalDate today = workScheduleRules.shiftOf(memberNo).workDate(LocalDateTime.now(clock));
+        return attendanceTodayStore.get(today, memberNo);
     }
 
     /**
-     * 특정 회원의 출퇴근 기록 목록 조회
+     * 출퇴근 기록 키셋 페이지 조회 (memberNo 가 null 이면 전체, 관리자용)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @return attendanceList, nextCursor (마지막 페이지면 null)
      */
-    public List<Attendance> getAttendanceList(Long memberNo, Integer limit) {
-        return attendanceMapper.findByMemberNo(memberNo, limit);
+    public Map<String, Object> getAttendancePage(Long memberNo, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<Attendance> rows = attendanceMapper.findPage(memberNo, AttendanceCursor.decode(cursor), size + 1);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = AttendanceCursor.after(rows.get(size - 1)).encode();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("attendanceList", rows);
+        result.put("nextCursor", nextCursor);
+        return result;
     }
 
     /**
@@ -120,13 +191,6 @@ public class AttendanceService {
         return attendanceMapper.findByMemberNoAndMonth(memberNo, year, month);
     }
 
-    /**
-     * 모든 출퇴근 기록 조회 (관리자용)
-     */
-    public List<Attendance> getAllAttendance(Integer limit) {
-        return attendanceMapper.findAll(limit);
-    }
-
     /**
      * 특정 날짜의 모든 출퇴근 기록 조회 (관리자용)
      */
@@ -155,27 +219,83 @@ public class AttendanceService {
     }
 
     /**
-     * 출퇴근 기록 삭제
+     * 출퇴근 기록 삭제 (출퇴근 테이블이 근무일 파티션이므로 근무일도 받음)
      */
     @Transactional
-    public void deleteAttendance(Long attendanceNo) {
-        int deleted = attendanceMapper.deleteAttendance(attendanceNo);
-        if (deleted == 0) {
+    public void deleteAttendance(Long attendanceNo, LocalDate workDate) {
+        Attendance attendance = attendanceMapper.findByAttendanceNo(attendanceNo, workDate);
+        if (attendance == null || attendanceMapper.deleteAttendance(attendanceNo, workDate) == 0) {
             throw new IllegalArgumentException("삭제할 출퇴근 기록을 찾을 수 없습니다.");
         }
+        refreshMonthlySummary(attendance.getMemberNo(), attendance.getWorkDate());
+        afterCompletion(() -> attendanceTodayStore.remove(attendanceNo), null);
+    }
+
+    /**
+     * 해당 회원의 근무월 요약 재계산 (마감된 월이면 급여용 근무 집계 캐시도 비움)
+     */
+    private void refreshMonthlySummary(Long memberNo, LocalDate workDate) {
+        attendanceMapper.refreshMonthlySummary(workDate.getYear(), workDate.getMonthValue(), List.of(memberNo));
+        attendancePayrollFeed.evict(YearMonth.from(workDate));
+    }
+
+    /**
+     * 월별 출근 요약 재구축 (year 가 없으면 가장 오래된 근무일부터 이번 달까지)
+     *
+     * @return 재계산한 월 수
+     */
+    public int rebuildMonthlySummary(Integer year) {
+        YearMonth from;
+        YearMonth to;
+        if (year != null) {
+            from = YearMonth.of(year, 1);
+            to = YearMonth.of(year, 12);
+        } else {
+            LocalDate firstWorkDate = attendanceMapper.findFirstWorkDate();
+            if (firstWorkDate == null) {
+                return 0;
+            }
+            from = YearMonth.from(firstWorkDate);
+            to = YearMonth.now(clock);
+        }
+
+        int months = 0;
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            attendanceMapper.refreshMonthlySummary(ym.getYear(), ym.getMonthValue(), null);
+            attendancePayrollFeed.evict(ym);
+            months++;
+        }
+        return months;
+    }
+
+    /**
+     * 확인 필요 기록 조회 (자동 퇴근 처리 등)
+     */
+    public List<Attendance> getReviewQueue(Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return attendanceMapper.findNeedsReview(size);
+    }
+
+    /**
+     * 확인 완료 처리 (출퇴근 테이블이 근무일 파티션이므로 근무일도 받음)
+     */
+    public void resolveReview(Long attendanceNo, LocalDate workDate) {
+        if (attendanceMapper.clearNeedsReview(attendanceNo, workDate) == 0) {
+            throw new IllegalArgumentException("확인이 필요한 출퇴근 기록을 찾을 수 없습니다.");
+        }
     }
 
     /**
      * 오늘 날짜 기준 모든 직원의 출근/미출근 현황 조회 (boss 대시보드용)
      */
     public Map<String, Object> getTodayDashboard() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
 
         // 모든 직원 조회
         List<Member> allEmployees = employeeService.getAllEmployees();
 
         // 오늘 날짜의 출근 기록 조회
-        List<Attendance> todayAttendanceList = attendanceMapper.findByDate(today);
+        List<Attendance> todayAttendanceList = attendanceTodayStore.findAll(today);
 
         // 출근 기록을 memberNo를 키로 하는 Map으로 변환
         Map<Long, Attendance> attendanceMap = todayAttendanceList.stream()
@@ -219,35 +339,26 @@ public class AttendanceService {
                 })
                 .collect(Collectors.toList());
 
-        // 통계 계산
-        long totalEmployees = allEmployees.size();
-        long attendedCount = todayAttendanceList.size();
-        long absentCount = totalEmployees - attendedCount;
-        long normalCount = todayAttendanceList.stream()
-                .filter(a -> "NORMAL".equals(a.getStatus()))
-                .count();
-        long lateCount = todayAttendanceList.stream()
-                .filter(a -> "LATE".equals(a.getStatus()))
-                .count();
-        long earlyLeaveCount = todayAttendanceList.stream()
-                .filter(a -> "EARLY_LEAVE".equals(a.getStatus()))
-                .count();
-
         Map<String, Object> dashboard = new HashMap<>();
         dashboard.put("date", today.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
         dashboard.put("employees", employeeStatusList);
-        dashboard.put("statistics", Map.of(
-                "total", totalEmployees,
-                "attended", attendedCount,
-                "absent", absentCount,
-                "normal", normalCount,
-                "late", lateCount,
-                "earlyLeave", earlyLeaveCount
-        ));
+        dashboard.put("statistics", attendanceTodayStore.getStatistics(today));
 
         return dashboard;
     }
 
+    /**
+     * 오늘 출근 통계만 조회 (대시보드 폴링용)
+     */
+    public Map<String, Object> getTodayStatistics() {
+        LocalDate today = LocalDate.now(clock);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("date", today.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        result.put("statistics", attendanceTodayStore.getStatistics(today));
+        return result;
+    }
+
     /**
      * 월별 출근 통계 조회
      */
@@ -277,6 +388,118 @@ public class AttendanceService {
         return result;
     }
 
+    /**
+     * 전체 직원 월별 출근 통계 조회 (쿼리 한 번)
+     */
+    public List<AttendanceMonthlySummary> getMonthlyStatisticsForAll(int year, int month) {
+        return attendanceMapper.findMonthlySummaries(year, month);
+    }
+
+    /**
+     * 기간별 출근/퇴근 시각 분포 (하루를 bucketMinutes 분 단위로 나눈 구간별 건수)
+     *
+     * 구간 집계는 DB 에서 width_bucket 으로 끝내고 구간별 건수 배열만 돌려준다.
+     *
+     * @param memberNos 대상 회원 (한 명이면 개인, 여러 명이면 팀, 비어 있으면 전체)
+     */
+    public Map<String, Object> getTimeDistribution(LocalDate startDate, LocalDate endDate,
+                                                   List<Long> memberNos, int bucketMinutes) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        }
+        if (bucketMinutes < 1 || bucketMinutes > 60 || MINUTES_PER_DAY % bucketMinutes != 0) {
+            throw new IllegalArgumentException("구간 크기는 1440의 약수인 1~60분이어야 합니다.");
+        }
+
+        int bucketCount = MINUTES_PER_DAY / bucketMinutes;
+        int[] checkIn = new int[bucketCount];
+        int[] checkOut = new int[bucketCount];
+        int lateCount = 0;
+        int earlyLeaveCount = 0;
+
+        for (Map<String, Object> row : attendanceMapper.getTimeDistribution(startDate, endDate, memberNos, bucketCount)) {
+            int index = ((Number) row.get("bucket")).intValue() - 1;
+            int count = ((Number) row.get("count")).intValue();
+            int flagged = ((Number) row.get("flagged")).intValue();
+            if ("CHECK_IN".equals(row.get("kind"))) {
+                checkIn[index] += count;
+                lateCount += flagged;
+            } else {
+                checkOut[index] += count;
+                earlyLeaveCount += flagged;
+            }
+        }
+
+        int checkInCount = Arrays.stream(checkIn).sum();
+        int checkOutCount = Arrays.stream(checkOut).sum();
+
+        Map<String, Object> punctuality = new HashMap<>();
+        punctuality.put("checkInCount", checkInCount);
+        punctuality.put("lateCount", lateCount);
+        punctuality.put("onTimeRate", checkInCount > 0
+                ? Math.round((checkInCount - lateCount) * 1000.0 / checkInCount) / 10.0
+                : null);
+        punctuality.put("checkOutCount", checkOutCount);
+        punctuality.put("earlyLeaveCount", earlyLeaveCount);
+        punctuality.put("medianCheckIn", percentileTime(checkIn, checkInCount, 0.5, bucketMinutes));
+        punctuality.put("p90CheckIn", percentileTime(checkIn, checkInCount, 0.9, bucketMinutes));
+        punctuality.put("medianCheckOut", percentileTime(checkOut, checkOutCount, 0.5, bucketMinutes));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("startDate", startDate.toString());
+        result.put("endDate", endDate.toString());
+        result.put("bucketMinutes", bucketMinutes);
+        result.put("checkIn", checkIn);
+        result.put("checkOut", checkOut);
+        result.put("punctuality", punctuality);
+        return result;
+    }
+
+    /**
+     * 히스토그램에서 백분위가 속한 구간의 시작 시각 (HH:mm, 건수가 없으면 null)
+     */
+    private String percentileTime(int[] histogram, int total, double percentile, int bucketMinutes) {
+        if (total == 0) {
+            return null;
+        }
+        long target = (long) Math.ceil(total * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            cumulative += histogram[i];
+            if (cumulative >= target) {
+                return LocalTime.MIDNIGHT.plusMinutes((long) i * bucketMinutes).format(DateTimeFormatter.ofPattern("HH:mm"));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 회원 연간 출퇴근 달력 (하루 1바이트 상태 코드 + 근무시간 배열)
+     *
+     * statusCodes[i], workMinutes[i] 는 1월 1일부터 i 일째 날의 값이다.
+     * 상태 코드는 CALENDAR_STATUSES 의 인덱스 (0: 기록 없음), byte 배열은 JSON 에서 Base64 문자열로 직렬화된다.
+     */
+    public Map<String, Object> getYearCalendar(Long memberNo, int year) {
+        int days = Year.of(year).length();
+        byte[] statusCodes = new byte[days];
+        int[] workMinutes = new int[days];
+
+        for (Map<String, Object> row : attendanceMapper.findYearCalendar(memberNo, year)) {
+            int dayIndex = ((Number) row.get("dayIndex")).intValue();
+            int code = CALENDAR_STATUSES.indexOf((String) row.get("status"));
+            statusCodes[dayIndex] = (byte) Math.max(code, 0);
+            workMinutes[dayIndex] = ((Number) row.get("workMinutes")).intValue();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("memberNo", memberNo);
+        result.put("year", year);
+        result.put("statusLegend", CALENDAR_STATUSES);
+        result.put("statusCodes", statusCodes);
+        result.put("workMinutes", workMinutes);
+        return result;
+    }
+
     /**
      * 연도별 출근 통계 조회
      */
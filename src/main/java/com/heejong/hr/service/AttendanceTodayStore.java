@@ -0,0 +1,238 @@
+package com.heejong.hr.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.heejong.hr.entity.Attendance;
+import com.heejong.hr.mapper.AttendanceMapper;
+import com.heejong.hr.mapper.LoginMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 오늘 출퇴근 기록 메모리 저장소
+ *
+ * 근무일 하나에 대한 기록만 회원번호 기준으로 보관한다.
+ * 기동 시와 자정에 findByDate 로 다시 채우고, 출근/퇴근 시 갱신된다.
+ * 상태별 인원은 갱신 시점에 카운터로 누적해 두므로 통계 조회는 인원수와 무관하게 O(1)이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceTodayStore {
+
+    private final AttendanceMapper attendanceMapper;
+    private final LoginMapper loginMapper;
+    private final Clock clock;
+
+    private volatile Day day = new Day(null);
+
+    // 전체 직원 수 (1분마다 갱신)
+    private volatile long employeeCount;
+
+    /**
+     * 특정 회원의 해당 날짜 기록 (없으면 null)
+     */
+    public Attendance get(LocalDate workDate, Long memberNo) {
+        Day current = dayOf(workDate);
+        if (current == null) {
+            return attendanceMapper.findByMemberNoAndDate(memberNo, workDate);
+        }
+        return current.records.get(memberNo);
+    }
+
+    /**
+     * 해당 날짜의 모든 기록 (출근시간 최신순)
+     */
+    public List<Attendance> findAll(LocalDate workDate) {
+        Day current = dayOf(workDate);
+        if (current == null) {
+            return attendanceMapper.findByDate(workDate);
+        }
+        List<Attendance> list = new ArrayList<>(current.records.values());
+        list.sort(Comparator.comparing(Attendance::getCheckInTime,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        return list;
+    }
+
+    /**
+     * 해당 회원의 기록이 없을 때만 등록
+     *
+     * @return 이미 기록이 있으면 false
+     */
+    public boolean putIfAbsent(Attendance attendance) {
+        Day current = dayOf(attendance.getWorkDate());
+        if (current == null) {
+            throw new IllegalArgumentException("지난 날짜의 출근은 등록할 수 없습니다.");
+        }
+        return current.putIfAbsent(attendance);
+    }
+
+    /**
+     * 기록 등록/갱신 (오늘이 아닌 기록은 무시)
+     */
+    public void put(Attendance attendance) {
+        if (attendance == null) {
+            return;
+        }
+        Day current = day;
+        if (attendance.getWorkDate().equals(current.workDate)) {
+            current.put(attendance);
+        }
+    }
+
+    /**
+     * 등록되지 않은 출근 기록 제거 (같은 객체가 아직 저장되어 있을 때만)
+     */
+    public void release(Attendance attendance) {
+        Day current = day;
+        if (attendance.getWorkDate().equals(current.workDate)) {
+            current.remove(attendance);
+        }
+    }
+
+    /**
+     * 삭제된 출퇴근 기록 제거
+     */
+    public void remove(Long attendanceNo) {
+        day.remove(attendanceNo);
+    }
+
+    /**
+     * 오늘 통계 (전체/출근/미출근/정상/지각/조퇴)
+     */
+    public Map<String, Object> getStatistics(LocalDate workDate) {
+        Day current = dayOf(workDate);
+        if (current == null) {
+            current = new Day(workDate);
+            for (Attendance attendance : attendanceMapper.findByDate(workDate)) {
+                current.put(attendance);
+            }
+        }
+        long total = employeeCount;
+        long attended = current.records.size();
+        return Map.of(
+                "total", total,
+                "attended", attended,
+                "absent", Math.max(total - attended, 0),
+                "normal", current.count("NORMAL"),
+                "late", current.count("LATE"),
+                "earlyLeave", current.count("EARLY_LEAVE")
+        );
+    }
+
+    /**
+     * 기동 시 오늘 기록 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshEmployeeCount();
+        load(LocalDate.now(clock));
+    }
+
+    /**
+     * 자정에 새 근무일로 교체
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollover() {
+        load(LocalDate.now(clock));
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void refreshEmployeeCount() {
+        employeeCount = loginMapper.countBySearch(null, null);
+    }
+
+    /**
+     * 해당 날짜의 저장소 (더 지난 날짜면 null → DB 조회)
+     */
+    private Day dayOf(LocalDate workDate) {
+        Day current = day;
+        if (workDate.equals(current.workDate)) {
+            return current;
+        }
+        if (current.workDate != null && workDate.isBefore(current.workDate)) {
+            return null;
+        }
+        return load(workDate);
+    }
+
+    private synchronized Day load(LocalDate workDate) {
+        Day current = day;
+        if (workDate.equals(current.workDate)) {
+            return current;
+        }
+        Day loaded = new Day(workDate);
+        for (Attendance attendance : attendanceMapper.findByDate(workDate)) {
+            loaded.put(attendance);
+        }
+        day = loaded;
+        return loaded;
+    }
+
+    /**
+     * 근무일 하나의 기록과 상태별 카운터
+     */
+    private static final class Day {
+
+        private final LocalDate workDate;
+        private final Map<Long, Attendance> records = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        private Day(LocalDate workDate) {
+            this.workDate = workDate;
+        }
+
+        boolean putIfAbsent(Attendance attendance) {
+            if (records.putIfAbsent(attendance.getMemberNo(), attendance) != null) {
+                return false;
+            }
+            adjust(attendance.getStatus(), 1);
+            return true;
+        }
+
+        void put(Attendance attendance) {
+            Attendance previous = records.put(attendance.getMemberNo(), attendance);
+            if (previous != null) {
+                adjust(previous.getStatus(), -1);
+            }
+            adjust(attendance.getStatus(), 1);
+        }
+
+        void remove(Attendance attendance) {
+            if (records.remove(attendance.getMemberNo(), attendance)) {
+                adjust(attendance.getStatus(), -1);
+            }
+        }
+
+        void remove(Long attendanceNo) {
+            for (Attendance attendance : records.values()) {
+                if (attendanceNo.equals(attendance.getAttendanceNo())
+                        && records.remove(attendance.getMemberNo(), attendance)) {
+                    adjust(attendance.getStatus(), -1);
+                }
+            }
+        }
+
+        long count(String status) {
+            LongAdder adder = statusCounts.get(status);
+            return adder != null ? adder.sum() : 0;
+        }
+
+        private void adjust(String status, int delta) {
+            if (status != null) {
+                statusCounts.computeIfAbsent(status, s -> new LongAdder()).add(delta);
+            }
+        }
+    }
+}
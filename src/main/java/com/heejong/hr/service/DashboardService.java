@@ -31,9 +31,9 @@ public class DashboardService {
         List<Member> allEmployees = employeeService.getAllEmployees();
         summary.put("employeeCount", allEmployees.size());
 
-        Map<String, Object> todayDashboard = attendanceService.getTodayDashboard();
+        Map<String, Object> todayStatistics = attendanceService.getTodayStatistics();
         @SuppressWarnings("unchecked")
-        Map<String, Object> stats = (Map<String, Object>) todayDashboard.get("statistics");
+        Map<String, Object> stats = (Map<String, Object>) todayStatistics.get("statistics");
         long total = stats != null ? ((Number) stats.get("total")).longValue() : 0;
         long attended = stats != null ? ((Number) stats.get("attended")).longValue() : 0;
         double attendanceRate = total > 0 ? (attended * 100.0 / total) : 0;
@@ -0,0 +1,166 @@
+package com.heejong.hr.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.heejong.hr.entity.DeductionRate;
+import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.mapper.DeductionRateMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여 공제 계산 (소득세, 국민연금, 건강보험, 고용보험)
+ *
+ * 연도별 공제율을 기동 시 한 번 읽어 적용 연도 → RateTable 의 변경 불가 Map 으로 보관한다.
+ * 공제율은 100만분의 1 단위 정수로 바꿔 두고, 원 단위 long 곱셈과 반올림(HALF_UP)으로 계산한다.
+ * 원 미만 금액이 있거나 long 범위를 넘으면 같은 공제율로 BigDecimal 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeductionRules {
+
+    // 공제율 단위 (100만분의 1)
+    private static final long RATE_SCALE = 1_000_000L;
+
+    // 공제율 테이블이 비어 있을 때의 기준 (소득세 5%, 국민연금 4.5%, 건강보험 3.35%, 고용보험 0.8%)
+    public static final RateTable DEFAULT = new RateTable(0, 50_000, 45_000, 33_500, 8_000);
+
+    private final DeductionRateMapper deductionRateMapper;
+
+    private volatile NavigableMap<Integer, RateTable> tables =
+            Collections.unmodifiableNavigableMap(new TreeMap<>(Map.of(DEFAULT.effectiveYear(), DEFAULT)));
+
+    /**
+     * 해당 연도에 적용되는 공제율
+     */
+    public RateTable tableFor(int year) {
+        Map.Entry<Integer, RateTable> entry = tables.floorEntry(year);
+        return entry != null ? entry.getValue() : DEFAULT;
+    }
+
+    /**
+     * 모든 연도별 공제율 (적용 연도순)
+     */
+    public List<RateTable> getTables() {
+        return new ArrayList<>(tables.values());
+    }
+
+    /**
+     * 원 단위 총 지급액의 공제액 계산
+     *
+     * @throws ArithmeticException long 범위를 넘는 경우
+     */
+    public Deductions calculate(int year, long totalAmount) {
+        return calculate(tableFor(year), totalAmount);
+    }
+
+    /**
+     * 급여 지급 내역의 총 지급액/지급연도로 공제액, 총 공제액, 실 지급액 설정
+     */
+    public void apply(SalaryPayment payment) {
+        BigDecimal totalAmount = payment.getTotalAmount();
+        RateTable table = tableFor(payment.getPaymentYear());
+
+        Deductions deductions;
+        try {
+            deductions = calculate(table, totalAmount.longValueExact());
+        } catch (ArithmeticException e) {
+            deductions = calculateExact(table, totalAmount);
+        }
+
+        BigDecimal totalDeduction = BigDecimal.valueOf(deductions.total());
+        payment.setIncomeTax(BigDecimal.valueOf(deductions.incomeTax()));
+        payment.setNationalPension(BigDecimal.valueOf(deductions.nationalPension()));
+        payment.setHealthInsurance(BigDecimal.valueOf(deductions.healthInsurance()));
+        payment.setEmploymentInsurance(BigDecimal.valueOf(deductions.employmentInsurance()));
+        payment.setTotalDeduction(totalDeduction);
+        payment.setNetAmount(totalAmount.subtract(totalDeduction));
+    }
+
+    /**
+     * 공제율 다시 읽기 (항목이 빠진 연도는 이전 버전 공제율을 이어 씀)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        Map<Integer, Map<String, Integer>> byYear = new TreeMap<>();
+        for (DeductionRate rate : deductionRateMapper.findAll()) {
+            byYear.computeIfAbsent(rate.getEffectiveYear(), year -> new HashMap<>())
+                    .put(rate.getItem(), rate.getRate().movePointRight(6).intValueExact());
+        }
+
+        NavigableMap<Integer, RateTable> loaded = new TreeMap<>();
+        RateTable previous = DEFAULT;
+        for (Map.Entry<Integer, Map<String, Integer>> entry : byYear.entrySet()) {
+            Map<String, Integer> rates = entry.getValue();
+            RateTable table = new RateTable(entry.getKey(),
+                    rates.getOrDefault("INCOME_TAX", previous.incomeTax()),
+                    rates.getOrDefault("NATIONAL_PENSION", previous.nationalPension()),
+                    rates.getOrDefault("HEALTH_INSURANCE", previous.healthInsurance()),
+                    rates.getOrDefault("EMPLOYMENT_INSURANCE", previous.employmentInsurance()));
+            loaded.put(table.effectiveYear(), table);
+            previous = table;
+        }
+        if (loaded.isEmpty()) {
+            loaded.put(DEFAULT.effectiveYear(), DEFAULT);
+        }
+        tables = Collections.unmodifiableNavigableMap(loaded);
+    }
+
+    static Deductions calculate(RateTable table, long totalAmount) {
+        return new Deductions(
+                share(totalAmount, table.incomeTax()),
+                share(totalAmount, table.nationalPension()),
+                share(totalAmount, table.healthInsurance()),
+                share(totalAmount, table.employmentInsurance()));
+    }
+
+    /**
+     * 금액 x 공제율, 원 단위 반올림 (HALF_UP: 0.5원은 0에서 먼 쪽으로)
+     */
+    static long share(long amount, int rate) {
+        long product = Math.multiplyExact(Math.absExact(amount), (long) rate);
+        long rounded = Math.addExact(product, RATE_SCALE / 2) / RATE_SCALE;
+        return amount < 0 ? -rounded : rounded;
+    }
+
+    private static Deductions calculateExact(RateTable table, BigDecimal totalAmount) {
+        return new Deductions(
+                shareExact(totalAmount, table.incomeTax()),
+                shareExact(totalAmount, table.nationalPension()),
+                shareExact(totalAmount, table.healthInsurance()),
+                shareExact(totalAmount, table.employmentInsurance()));
+    }
+
+    private static long shareExact(BigDecimal amount, int rate) {
+        return amount.multiply(BigDecimal.valueOf(rate, 6)).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * 연도별 공제율 (100만분의 1 단위)
+     */
+    public record RateTable(int effectiveYear, int incomeTax, int nationalPension,
+                            int healthInsurance, int employmentInsurance) {
+    }
+
+    /**
+     * 공제액 (원)
+     */
+    public record Deductions(long incomeTax, long nationalPension, long healthInsurance, long employmentInsurance) {
+
+        public long total() {
+            return incomeTax + nationalPension + healthInsurance + employmentInsurance;
+        }
+    }
+}
@@ -141,7 +141,26 @@ public class EmployeeService {
      * 연봉으로부터 월급 계산 (연봉 / 12)
      */
     public java.math.BigDecimal calculateMonthlySalary(Long memberNo) {
-        String annualSalaryStr = getAnnualSalary(memberNo);
+        return toMonthlySalary(getAnnualSalary(memberNo));
+    }
+
+    /**
+     * 암호화된 연봉으로부터 월급 계산 (이미 조회한 회원 정보로 일괄 계산할 때 사용)
+     */
+    public java.math.BigDecimal calculateMonthlySalaryFromEncrypted(String encryptedAnnualSalary) {
+        if (encryptedAnnualSalary == null || encryptedAnnualSalary.isEmpty()) {
+            return null;
+        }
+        try {
+            return toMonthlySalary(encryptionUtil.decrypt(encryptedAnnualSalary));
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("연봉 정보를 복호화할 수 없습니다.", e);
+        }
+    }
+
+    private java.math.BigDecimal toMonthlySalary(String annualSalaryStr) {
         if (annualSalaryStr == null || annualSalaryStr.isEmpty()) {
             return null;
         }
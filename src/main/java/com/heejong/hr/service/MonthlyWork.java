@@ -0,0 +1,20 @@
+package com.heejong.hr.service;
+
+/**
+ * 회원 월 근무 집계 (출퇴근 기록 기준)
+ *
+ * @param workDays 출근한 날 수
+ * @param workMinutes 총 근무 분
+ * @param overtimeMinutes 근무 일정 최소 근무시간을 넘긴 초과근무 분
+ */
+public record MonthlyWork(int workDays, int workMinutes, int overtimeMinutes) {
+
+    public static final MonthlyWork NONE = new MonthlyWork(0, 0, 0);
+
+    /**
+     * 총 근무 시간 (시간 단위, 분은 버림)
+     */
+    public int workHours() {
+        return workMinutes / 60;
+    }
+}
@@ -0,0 +1,371 @@
+package com.heejong.hr.service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.heejong.hr.entity.Member;
+import com.heejong.hr.entity.Notification;
+import com.heejong.hr.entity.PayrollRun;
+import com.heejong.hr.entity.PayrollRunChunk;
+import com.heejong.hr.entity.PayrollRunFailure;
+import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.mapper.LoginMapper;
+import com.heejong.hr.mapper.NotificationMapper;
+import com.heejong.hr.mapper.PayrollRunMapper;
+import com.heejong.hr.mapper.SalaryMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전 직원 월 급여 일괄 지급
+ *
+ * 회원을 회원번호순으로 CHUNK_SIZE 명씩 나눠 구간마다 복호화/계산은 병렬로 하고, 다중 행 INSERT 로 급여와 알림을 등록한다.
+ * 구간 커밋 기록(payroll_run_chunk)과 재개 위치(payroll_run.last_member_no)는 급여 등록과 같은 트랜잭션에 남기므로
+ * 중단/실패한 실행은 마지막으로 커밋된 구간 다음 회원부터 이어서 처리된다. 급여는 회원/월마다 한 건뿐이라(ON CONFLICT DO NOTHING)
+ * 같은 구간을 다시 처리해도 중복 등록되지 않는다. 같은 멱등 키로 다시 요청하면 새 실행을 만들지 않고 그 실행을 돌려준다.
+ * 계산에 실패한 회원은 구간과 같은 트랜잭션에 payroll_run_failure 로 남기고, 실패 회원이 있으면 실행을 PARTIAL 로 끝낸다.
+ * PARTIAL 실행을 다시 시작하면 실패 회원만 먼저 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollRunService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PayrollRunMapper payrollRunMapper;
+    private final SalaryMapper salaryMapper;
+    private final LoginMapper loginMapper;
+    private final NotificationMapper notificationMapper;
+    private final SalaryService salaryService;
+    private final EmployeeService employeeService;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    // 진행 중인 지급월 (같은 월 동시 실행 방지)
+    private final Set<YearMonth> activeMonths = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "payroll-run");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 급여 일괄 지급 시작 (끝나지 않은 실행이 있으면 실패 회원을 다시 계산하고 마지막 커밋 구간 다음부터 이어서 진행)
+     *
+     * @param idempotencyKey 멱등 키 (선택, 같은 키의 실행이 있으면 그 실행을 돌려주고 끝나지 않았으면 이어서 진행,
+     *                       키 없는 실행을 이어서 진행하면 그 실행에 키를 기록하고 다른 키의 실행이면 거절)
+     */
+    public PayrollRun start(int year, int month, String idempotencyKey) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("지급월이 올바르지 않습니다.");
+        }
+        YearMonth paymentMonth = YearMonth.of(year, month);
+
+        PayrollRun keyed = idempotencyKey != null ? payrollRunMapper.findByIdempotencyKey(idempotencyKey) : null;
+        if (keyed != null) {
+            if (keyed.getPaymentYear() != year || keyed.getPaymentMonth() != month) {
+                throw new IllegalArgumentException("다른 지급월 실행에 사용된 멱등 키입니다.");
+            }
+            if ("COMPLETED".equals(keyed.getStatus()) || activeMonths.contains(paymentMonth)) {
+                return keyed;
+            }
+        }
+
+        if (!activeMonths.add(paymentMonth)) {
+            throw new IllegalArgumentException("해당 월 급여 일괄 지급이 이미 진행 중입니다.");
+        }
+
+        try {
+            PayrollRun run = keyed != null ? keyed : payrollRunMapper.findUnfinished(year, month);
+            if (run == null) {
+                run = new PayrollRun();
+                run.setPaymentYear(year);
+                run.setPaymentMonth(month);
+                run.setIdempotencyKey(idempotencyKey);
+                run.setPaymentDate(LocalDate.now(clock));
+                try {
+                    payrollRunMapper.insertRun(run);
+                } catch (DuplicateKeyException e) {
+                    if (idempotencyKey == null) {
+                        throw e;
+                    }
+                    // 같은 키로 동시에 들어온 요청 (다른 서버에서 먼저 등록)
+                    activeMonths.remove(paymentMonth);
+                    return payrollRunMapper.findByIdempotencyKey(idempotencyKey);
+                }
+            } else {
+                if (keyed == null && idempotencyKey != null) {
+                    try {
+                        if (payrollRunMapper.attachIdempotencyKey(run.getRunNo(), idempotencyKey) == 0) {
+                            throw new IllegalArgumentException("해당 월 급여 일괄 지급이 다른 멱등 키로 진행 중입니다.");
+                        }
+                    } catch (DuplicateKeyException e) {
+                        // 같은 키로 동시에 들어온 요청이 먼저 새 실행을 등록함
+                        activeMonths.remove(paymentMonth);
+                        return payrollRunMapper.findByIdempotencyKey(idempotencyKey);
+                    }
+                }
+                payrollRunMapper.markRunning(run.getRunNo());
+            }
+
+            Long runNo = run.getRunNo();
+            runner.execute(() -> execute(runNo, paymentMonth));
+            return payrollRunMapper.findByRunNo(runNo);
+        } catch (RuntimeException e) {
+            activeMonths.remove(paymentMonth);
+            throw e;
+        }
+    }
+
+    /**
+     * 급여 일괄 지급 진행 상황 조회
+     */
+    public PayrollRun getRun(Long runNo) {
+        PayrollRun run = payrollRunMapper.findByRunNo(runNo);
+        if (run == null) {
+            throw new IllegalArgumentException("급여 일괄 지급 내역을 찾을 수 없습니다.");
+        }
+        return run;
+    }
+
+    /**
+     * 급여 일괄 지급 구간 커밋 기록 조회
+     */
+    public List<PayrollRunChunk> getChunks(Long runNo) {
+        getRun(runNo);
+        return payrollRunMapper.findChunks(runNo);
+    }
+
+    /**
+     * 급여 일괄 지급 계산 실패 회원 조회
+     */
+    public List<PayrollRunFailure> getFailures(Long runNo) {
+        getRun(runNo);
+        return payrollRunMapper.findFailures(runNo);
+    }
+
+    /**
+     * 해당 월의 가장 최근 급여 일괄 지급 조회 (없으면 null)
+     */
+    public PayrollRun getLatestRun(int year, int month) {
+        return payrollRunMapper.findLatest(year, month);
+    }
+
+    private void execute(Long runNo, YearMonth paymentMonth) {
+        int year = paymentMonth.getYear();
+        int month = paymentMonth.getMonthValue();
+        try {
+            PayrollRun run = payrollRunMapper.findByRunNo(runNo);
+            Long resumeAfter = run.getLastMemberNo();
+            int chunkNo = run.getChunkCount() != null ? run.getChunkCount() : 0;
+            LocalDate paymentDate = run.getPaymentDate() != null ? run.getPaymentDate() : LocalDate.now(clock);
+
+            // 커밋된 구간 이후 회원만 조회 (재개 시 앞 구간은 다시 읽거나 확인하지 않음)
+            List<Member> members = loginMapper.findAllAfter(resumeAfter);
+            Set<Long> paid = new HashSet<>(salaryMapper.findPaidMemberNos(year, month, resumeAfter));
+            // 적용일별 급여 정보는 실행마다 한 번만 읽어 as-of 인덱스로 사용
+            SalaryHistory history = salaryService.loadSalaryHistory();
+            // 지급월 출퇴근 집계 (근무일수/근무시간/초과근무)도 실행마다 집계 쿼리 한 번
+            Map<Long, MonthlyWork> works = attendancePayrollFeed.monthlyWork(paymentMonth);
+            payrollRunMapper.updateTotalCount(runNo, members.size());
+            if (resumeAfter != null) {
+                log.info("{} 급여 일괄 지급 재개: 회원번호 {} 이후 {}명 (구간 {}부터)", paymentMonth, resumeAfter, members.size(), chunkNo);
+            }
+
+            // 이전 실행에서 계산에 실패한 회원 먼저 다시 계산
+            List<PayrollRunFailure> failures = payrollRunMapper.findFailures(runNo);
+            if (!failures.isEmpty()) {
+                retryFailures(runNo, failures, history, works, paymentDate, year, month);
+            }
+
+            for (int from = 0; from < members.size(); from += CHUNK_SIZE, chunkNo++) {
+                List<Member> chunkMembers = members.subList(from, Math.min(from + CHUNK_SIZE, members.size()));
+                ChunkPayments computed = compute(chunkMembers, paid, history, works, runNo, paymentDate, year, month);
+
+                PayrollRunChunk chunk = new PayrollRunChunk();
+                chunk.setRunNo(runNo);
+                chunk.setChunkNo(chunkNo);
+                chunk.setFirstMemberNo(chunkMembers.get(0).getMemberNo());
+                chunk.setLastMemberNo(chunkMembers.get(chunkMembers.size() - 1).getMemberNo());
+                chunk.setMemberCount(chunkMembers.size());
+                chunk.setFailedCount(computed.failures().size());
+                transactionTemplate.executeWithoutResult(status ->
+                        commitChunk(chunk, computed, year, month));
+            }
+
+            // 계산 실패 회원이 남으면 완료로 보지 않음 (다시 시작하면 실패 회원만 재시도)
+            int failedCount = payrollRunMapper.findByRunNo(runNo).getFailedCount();
+            if (failedCount > 0) {
+                payrollRunMapper.finish(runNo, "PARTIAL", "급여 계산 실패 " + failedCount + "건");
+            } else {
+                payrollRunMapper.finish(runNo, "COMPLETED", null);
+            }
+            PayrollRun finished = payrollRunMapper.findByRunNo(runNo);
+            log.info("{} 급여 일괄 지급 {}: 지급 {}건, 제외 {}건, 실패 {}건", paymentMonth, finished.getStatus(),
+                    finished.getProcessedCount(), finished.getSkippedCount(), finished.getFailedCount());
+        } catch (RuntimeException e) {
+            log.error("{} 급여 일괄 지급 실패", paymentMonth, e);
+            payrollRunMapper.finish(runNo, "FAILED", e.getMessage());
+        } finally {
+            activeMonths.remove(paymentMonth);
+        }
+    }
+
+    /**
+     * 한 구간의 급여 계산 (복호화/계산은 CPU 작업이므로 병렬로 처리)
+     */
+    private ChunkPayments compute(List<Member> chunkMembers, Set<Long> paid, SalaryHistory history,
+                                  Map<Long, MonthlyWork> works, Long runNo, LocalDate paymentDate, int year, int month) {
+        List<Member> targets = chunkMembers.stream()
+                .filter(member -> history.contains(member.getMemberNo())
+                        || (member.getAnnualSalary() != null && !member.getAnnualSalary().isEmpty()))
+                .filter(member -> !paid.contains(member.getMemberNo()))
+                .collect(Collectors.toList());
+
+        ConcurrentLinkedQueue<PayrollRunFailure> failures = new ConcurrentLinkedQueue<>();
+        List<SalaryPayment> payments = targets.parallelStream()
+                .map(member -> {
+                    try {
+                        // 지급월에 적용되는 급여 정보가 있으면 그 기준(월 중 변경은 일할 계산), 없으면 연봉 기준
+                        SalaryPayment payment = salaryService.buildPayrollPayment(history, member.getMemberNo(), year, month,
+                                () -> employeeService.calculateMonthlySalaryFromEncrypted(member.getAnnualSalary()),
+                                works.getOrDefault(member.getMemberNo(), MonthlyWork.NONE));
+                        if (payment == null) {
+                            throw new IllegalArgumentException("지급월에 적용되는 급여 정보가 없습니다.");
+                        }
+                        payment.setPaymentDate(paymentDate);
+                        payment.setRunNo(runNo);
+                        return payment;
+                    } catch (RuntimeException e) {
+                        log.warn("급여 계산 실패 (회원번호 {}): {}", member.getMemberNo(), e.getMessage());
+                        PayrollRunFailure failure = new PayrollRunFailure();
+                        failure.setRunNo(runNo);
+                        failure.setMemberNo(member.getMemberNo());
+                        failure.setErrorMessage(e.getMessage());
+                        failures.add(failure);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        int skipped = chunkMembers.size() - targets.size();
+        return new ChunkPayments(payments, skipped, new ArrayList<>(failures));
+    }
+
+    /**
+     * 계산 실패 회원 재시도 (한 트랜잭션)
+     *
+     * 지급되거나 제외된 회원(급여 정보 없음, 이미 지급, 탈퇴)은 실패 기록을 지우고 실패 수에서 지급/제외 수로 옮긴다.
+     * 다시 실패한 회원은 사유만 갱신한다.
+     */
+    private void retryFailures(Long runNo, List<PayrollRunFailure> failures, SalaryHistory history,
+                               Map<Long, MonthlyWork> works, LocalDate paymentDate, int year, int month) {
+        List<Long> failedMemberNos = failures.stream().map(PayrollRunFailure::getMemberNo).collect(Collectors.toList());
+        // 이미 지급된 회원은 ON CONFLICT DO NOTHING 으로 걸러져 제외로 셈
+        ChunkPayments computed = compute(loginMapper.findByMemberNos(failedMemberNos), Set.of(), history, works,
+                runNo, paymentDate, year, month);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> inserted = computed.payments().isEmpty()
+                    ? List.of()
+                    : salaryMapper.insertSalaryPaymentsReturning(computed.payments());
+
+            Set<Long> stillFailed = computed.failures().stream()
+                    .map(PayrollRunFailure::getMemberNo)
+                    .collect(Collectors.toSet());
+            List<Long> resolved = failedMemberNos.stream()
+                    .filter(memberNo -> !stillFailed.contains(memberNo))
+                    .collect(Collectors.toList());
+            // 지운 건수만큼만 옮김 (다른 서버가 먼저 재시도했으면 0)
+            int deleted = resolved.isEmpty() ? 0 : payrollRunMapper.deleteFailures(runNo, resolved);
+            int insertedCount = Math.min(inserted.size(), deleted);
+            payrollRunMapper.resolveFailures(runNo, insertedCount, deleted - insertedCount);
+            if (!computed.failures().isEmpty()) {
+                payrollRunMapper.upsertFailures(computed.failures());
+            }
+            notifyPaid(inserted, year, month);
+
+            log.info("{}-{} 급여 계산 실패 회원 재시도: {}명 중 지급 {}건, 제외 {}건, 실패 {}건", year, month,
+                    failedMemberNos.size(), insertedCount, deleted - insertedCount, stillFailed.size());
+        });
+    }
+
+    /**
+     * 한 구간의 급여/알림/계산 실패 회원 등록과 구간 커밋 기록, 재개 위치 갱신 (한 트랜잭션)
+     *
+     * 이미 있는 회원/월 급여는 건너뛰고 제외로 센다. 재개 위치가 이 구간 앞이 아니면(다른 실행이 먼저 커밋) 전체를 되돌린다.
+     */
+    private void commitChunk(PayrollRunChunk chunk, ChunkPayments computed, int year, int month) {
+        List<SalaryPayment> payments = computed.payments();
+        List<Long> inserted = payments.isEmpty() ? List.of() : salaryMapper.insertSalaryPaymentsReturning(payments);
+
+        Set<Long> insertedMemberNos = new HashSet<>(inserted);
+        BigDecimal totalAmount = payments.stream()
+                .filter(payment -> insertedMemberNos.contains(payment.getMemberNo()))
+                .map(SalaryPayment::getTotalAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        chunk.setInsertedCount(inserted.size());
+        chunk.setSkippedCount(computed.skipped() + payments.size() - inserted.size());
+        chunk.setTotalAmount(totalAmount);
+
+        if (payrollRunMapper.advanceCheckpoint(chunk) == 0) {
+            throw new IllegalStateException("급여 일괄 지급 구간 " + chunk.getChunkNo() + " 이 이미 커밋되었습니다.");
+        }
+        payrollRunMapper.insertChunk(chunk);
+        if (!computed.failures().isEmpty()) {
+            payrollRunMapper.upsertFailures(computed.failures());
+        }
+
+        notifyPaid(inserted, year, month);
+    }
+
+    /**
+     * 지급된 회원들에게 급여 지급 알림 일괄 등록
+     */
+    private void notifyPaid(List<Long> inserted, int year, int month) {
+        if (!inserted.isEmpty()) {
+            List<Notification> notifications = inserted.stream().map(memberNo -> {
+                Notification notification = new Notification();
+                notification.setMemberNo(memberNo);
+                notification.setType("SALARY_PAID");
+                notification.setTitle("급여 지급");
+                notification.setMessage(year + "년 " + month + "월 급여가 지급되었습니다.");
+                notification.setRelatedId(year + "-" + month);
+                return notification;
+            }).collect(Collectors.toList());
+            notificationMapper.insertBatch(notifications);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private record ChunkPayments(List<SalaryPayment> payments, int skipped, List<PayrollRunFailure> failures) {
+    }
+}
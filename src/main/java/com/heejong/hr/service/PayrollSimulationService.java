@@ -0,0 +1,272 @@
+package com.heejong.hr.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.heejong.hr.entity.Member;
+import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.mapper.LoginMapper;
+import com.heejong.hr.mapper.SalaryMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 급여 모의 계산 (저장하지 않음)
+ *
+ * 회원 연봉(복호화, 원 단위 long)과 적용일별 급여 정보 as-of 인덱스를 한 번 읽어 메모리에 보관하고(5분 또는 refresh 요청 시 갱신),
+ * 인상률/수당 변경 시나리오를 적용한 전 직원 한 달 급여를 병렬로 계산한다.
+ * 기준 급여는 급여 일괄 지급과 같은 SalaryService.buildPayrollPayment 로 계산한다
+ * (지급월 급여 정보, 월 중 변경은 일할 계산, 없으면 연봉 / 12, 지급월 출퇴근 집계의 초과근무수당).
+ * 연봉은 이력이 없으므로 급여 정보가 없는 회원은 지급월과 관계없이 현재 연봉을 쓴다.
+ * 인상률은 기본급에 적용하고 초과근무수당은 인상된 기본급으로 다시 계산한다.
+ * 공제는 실제 지급과 같은 DeductionRules 를 쓰며, 시나리오 적용 전(기준)과 후를 한 번에 계산해 차이를 돌려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayrollSimulationService {
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(5);
+
+    private final LoginMapper loginMapper;
+    private final SalaryMapper salaryMapper;
+    private final EmployeeService employeeService;
+    private final SalaryService salaryService;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+    private final DeductionRules deductionRules;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 지급월의 시나리오 적용 전/후 급여 모의 계산
+     *
+     * @param memberNos 대상 회원 (비어 있으면 전체)
+     * @param includeMembers 회원별 결과 포함 여부
+     */
+    public Map<String, Object> simulate(int year, int month, Scenario scenario, Set<Long> memberNos,
+                                        boolean refresh, boolean includeMembers) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("지급월이 올바르지 않습니다.");
+        }
+        Snapshot current = snapshot(refresh);
+        // 지급월 출퇴근 집계는 급여 일괄 지급과 같은 집계 (마감된 월은 캐시)
+        Map<Long, MonthlyWork> works = attendancePayrollFeed.monthlyWork(YearMonth.of(year, month));
+        Map<String, Object> result = calculate(current.inputs(), current.history(), works, year, month, scenario,
+                memberNos, includeMembers);
+        result.put("snapshotLoadedAt", current.loadedAt().toString());
+        return result;
+    }
+
+    /**
+     * 계산 입력으로 시나리오 적용 전/후 급여 계산 (DB 를 읽지 않음)
+     */
+    Map<String, Object> calculate(List<MemberInput> inputs, SalaryHistory history, Map<Long, MonthlyWork> works,
+                                  int year, int month, Scenario scenario, Set<Long> memberNos, boolean includeMembers) {
+        List<MemberResult> results = inputs.parallelStream()
+                .filter(input -> memberNos == null || memberNos.isEmpty() || memberNos.contains(input.memberNo()))
+                .map(input -> calculate(input, history, works.getOrDefault(input.memberNo(), MonthlyWork.NONE),
+                        year, month, scenario))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        Totals baseline = results.parallelStream().map(MemberResult::baseline)
+                .collect(Totals::new, Totals::add, Totals::combine);
+        Totals simulated = results.parallelStream().map(MemberResult::simulated)
+                .collect(Totals::new, Totals::add, Totals::combine);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("year", year);
+        result.put("month", month);
+        result.put("memberCount", results.size());
+        result.put("baseline", baseline.toMap());
+        result.put("simulated", simulated.toMap());
+        result.put("difference", simulated.minus(baseline).toMap());
+        if (includeMembers) {
+            result.put("members", results.stream().map(MemberResult::toMap).collect(Collectors.toList()));
+        }
+        return result;
+    }
+
+    private MemberResult calculate(MemberInput input, SalaryHistory history, MonthlyWork work, int year, int month,
+                                   Scenario scenario) {
+        SalaryPayment payment = salaryService.buildPayrollPayment(history, input.memberNo(), year, month,
+                () -> input.monthlyFromAnnual() != null ? BigDecimal.valueOf(input.monthlyFromAnnual()) : null, work);
+        if (payment == null) {
+            return null;
+        }
+
+        long base = won(payment.getBaseSalary());
+        long overtime = won(payment.getOvertimePay());
+        long totalAmount = won(payment.getTotalAmount());
+        Payroll baseline = payroll(year, base, overtime, totalAmount);
+
+        // 기본급 인상분과 인상된 기본급 기준 초과근무수당 차이, 수당 변경/상여를 더함
+        long raisedBase = base + DeductionRules.share(base, scenario.raisePpm());
+        long raisedOvertime = won(attendancePayrollFeed.overtimePay(BigDecimal.valueOf(raisedBase), work.overtimeMinutes()));
+        long simulatedTotal = totalAmount + (raisedBase - base) + (raisedOvertime - overtime)
+                + scenario.allowanceDelta() + scenario.bonus();
+        Payroll simulated = payroll(year, raisedBase, raisedOvertime, simulatedTotal);
+        return new MemberResult(input.memberNo(), input.memberId(), input.memberName(), baseline, simulated);
+    }
+
+    private Payroll payroll(int year, long base, long overtime, long totalAmount) {
+        DeductionRules.Deductions deductions = deductionRules.calculate(year, totalAmount);
+        return new Payroll(base, overtime, totalAmount, deductions, totalAmount - deductions.total());
+    }
+
+    /**
+     * 계산 입력 (만료되었거나 refresh 요청이면 다시 읽음)
+     */
+    private Snapshot snapshot(boolean refresh) {
+        Snapshot current = snapshot;
+        Instant now = clock.instant();
+        if (!refresh && current != null && current.loadedAt().plus(SNAPSHOT_TTL).isAfter(now)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (!refresh && current != null && current.loadedAt().plus(SNAPSHOT_TTL).isAfter(now)) {
+                return current;
+            }
+            current = load(now);
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private Snapshot load(Instant now) {
+        // 급여 정보는 모든 버전을 읽어 두고 지급월에 적용되는 버전을 고름
+        SalaryHistory history = SalaryHistory.of(salaryMapper.findActiveVersions(null));
+
+        List<MemberInput> inputs = loginMapper.findAll().parallelStream()
+                .map(this::toInput)
+                .collect(Collectors.toList());
+        return new Snapshot(List.copyOf(inputs), history, now);
+    }
+
+    private MemberInput toInput(Member member) {
+        Long monthlyFromAnnual = null;
+        try {
+            BigDecimal monthly = employeeService.calculateMonthlySalaryFromEncrypted(member.getAnnualSalary());
+            monthlyFromAnnual = monthly != null ? monthly.longValueExact() : null;
+        } catch (RuntimeException e) {
+            log.warn("모의 계산에서 연봉 제외 (회원번호 {}): {}", member.getMemberNo(), e.getMessage());
+        }
+        return new MemberInput(member.getMemberNo(), member.getId(), member.getName(), monthlyFromAnnual);
+    }
+
+    private static long won(BigDecimal amount) {
+        return amount != null ? amount.setScale(0, RoundingMode.HALF_UP).longValueExact() : 0;
+    }
+
+    /**
+     * 시나리오 (인상률은 100만분의 1 단위, 수당 변경/상여는 1인당 원)
+     */
+    public record Scenario(int raisePpm, long allowanceDelta, long bonus) {
+
+        public static Scenario of(BigDecimal raisePercent, Long allowanceDelta, Long bonus) {
+            int raisePpm = raisePercent != null ? raisePercent.movePointRight(4).setScale(0, RoundingMode.HALF_UP).intValueExact() : 0;
+            return new Scenario(raisePpm, allowanceDelta != null ? allowanceDelta : 0, bonus != null ? bonus : 0);
+        }
+    }
+
+    private record Snapshot(List<MemberInput> inputs, SalaryHistory history, Instant loadedAt) {
+    }
+
+    /**
+     * 회원별 계산 입력 (연봉 기준 월급, 원 단위)
+     */
+    record MemberInput(Long memberNo, String memberId, String memberName, Long monthlyFromAnnual) {
+    }
+
+    private record Payroll(long baseSalary, long overtimePay, long totalAmount, DeductionRules.Deductions deductions,
+                           long netAmount) {
+    }
+
+    private record MemberResult(Long memberNo, String memberId, String memberName, Payroll baseline, Payroll simulated) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("memberNo", memberNo);
+            map.put("memberId", memberId);
+            map.put("memberName", memberName);
+            map.put("baseSalary", simulated.baseSalary());
+            map.put("overtimePay", simulated.overtimePay());
+            map.put("totalAmount", simulated.totalAmount());
+            map.put("totalDeduction", simulated.deductions().total());
+            map.put("netAmount", simulated.netAmount());
+            map.put("baselineNetAmount", baseline.netAmount());
+            map.put("netAmountDifference", simulated.netAmount() - baseline.netAmount());
+            return map;
+        }
+    }
+
+    /**
+     * 합계 (병렬 수집용)
+     */
+    private static final class Totals {
+
+        private long totalAmount;
+        private long incomeTax;
+        private long nationalPension;
+        private long healthInsurance;
+        private long employmentInsurance;
+        private long netAmount;
+
+        void add(Payroll payroll) {
+            totalAmount += payroll.totalAmount();
+            incomeTax += payroll.deductions().incomeTax();
+            nationalPension += payroll.deductions().nationalPension();
+            healthInsurance += payroll.deductions().healthInsurance();
+            employmentInsurance += payroll.deductions().employmentInsurance();
+            netAmount += payroll.netAmount();
+        }
+
+        void combine(Totals other) {
+            totalAmount += other.totalAmount;
+            incomeTax += other.incomeTax;
+            nationalPension += other.nationalPension;
+            healthInsurance += other.healthInsurance;
+            employmentInsurance += other.employmentInsurance;
+            netAmount += other.netAmount;
+        }
+
+        Totals minus(Totals other) {
+            Totals diff = new Totals();
+            diff.totalAmount = totalAmount - other.totalAmount;
+            diff.incomeTax = incomeTax - other.incomeTax;
+            diff.nationalPension = nationalPension - other.nationalPension;
+            diff.healthInsurance = healthInsurance - other.healthInsurance;
+            diff.employmentInsurance = employmentInsurance - other.employmentInsurance;
+            diff.netAmount = netAmount - other.netAmount;
+            return diff;
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("totalAmount", totalAmount);
+            map.put("incomeTax", incomeTax);
+            map.put("nationalPension", nationalPension);
+            map.put("healthInsurance", healthInsurance);
+            map.put("employmentInsurance", employmentInsurance);
+            map.put("totalDeduction", incomeTax + nationalPension + healthInsurance + employmentInsurance);
+            map.put("netAmount", netAmount);
+            return map;
+        }
+    }
+}
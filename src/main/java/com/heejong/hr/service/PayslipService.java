@@ -0,0 +1,297 @@
+package com.heejong.hr.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.mapper.SalaryMapper;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.UnitValue;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여명세서 PDF 생성
+ *
+ * 한 달 전 직원 명세서는 지급 내역을 Cursor 로 읽으면서 고정 크기 작업 풀에서 렌더링하고,
+ * 끝나는 순서대로 ZIP 항목으로 바로 내보낸다. 동시에 메모리에 있는 PDF 는 최대 (스레드 수 x 2) 개이다.
+ * 폰트 파일과 표 구성(항목 이름/열 너비)은 한 번만 읽어 모든 문서가 함께 쓴다.
+ * 중간에 실패하면 남은 렌더링을 취소하고 ERROR.txt 항목을 넣어 ZIP 을 닫으므로, 이미 응답이 시작된 뒤에도
+ * 받는 쪽은 잘린 파일 대신 불완전하다는 표시가 있는 정상 ZIP 을 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayslipService {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final float[] COLUMN_WIDTHS = {200f, 200f};
+
+    // 지급/공제 항목 (명세서 표 구성)
+    private static final List<PayslipRow> EARNING_ROWS = List.of(
+            new PayslipRow("기본급", SalaryPayment::getBaseSalary),
+            new PayslipRow("직책수당", SalaryPayment::getPositionAllowance),
+            new PayslipRow("식대", SalaryPayment::getMealAllowance),
+            new PayslipRow("교통비", SalaryPayment::getTransportAllowance),
+            new PayslipRow("초과근무수당", SalaryPayment::getOvertimePay),
+            new PayslipRow("상여금", SalaryPayment::getBonus));
+    private static final List<PayslipRow> DEDUCTION_ROWS = List.of(
+            new PayslipRow("소득세", SalaryPayment::getIncomeTax),
+            new PayslipRow("국민연금", SalaryPayment::getNationalPension),
+            new PayslipRow("건강보험", SalaryPayment::getHealthInsurance),
+            new PayslipRow("고용보험", SalaryPayment::getEmploymentInsurance));
+
+    private final SalaryMapper salaryMapper;
+
+    @Value("${salary.payslip.threads:4}")
+    private int threads;
+
+    // 한글 폰트 파일 경로 (비어 있으면 기본 Helvetica)
+    @Value("${salary.payslip.font-path:}")
+    private String fontPath;
+
+    private FontProgram fontProgram;
+    private ExecutorService renderers;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!fontPath.isBlank()) {
+            fontProgram = FontProgramFactory.createFont(fontPath);
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        renderers = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "payslip-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 급여명세서 PDF 생성
+     */
+    public byte[] exportPayslipToPdf(Long salaryPaymentNo) {
+        SalaryPayment payment = salaryMapper.findPaymentById(salaryPaymentNo);
+        if (payment == null) {
+            throw new IllegalArgumentException("급여 지급 내역을 찾을 수 없습니다.");
+        }
+        return render(payment);
+    }
+
+    /**
+     * 해당 월 전 직원 급여명세서를 ZIP 으로 스트리밍 (취소된 지급 제외)
+     *
+     * @throws IOException 렌더링/쓰기 실패 (남은 작업은 취소하고 ERROR.txt 항목을 넣어 ZIP 을 닫은 뒤 던짐)
+     */
+    @Transactional(readOnly = true)
+    public void streamPayslipZip(int year, int month, OutputStream outputStream) throws IOException {
+        CompletionService<RenderedPayslip> completion = new ExecutorCompletionService<>(renderers);
+        int maxInFlight = Math.max(1, threads) * 2;
+        Set<Future<RenderedPayslip>> inFlight = new HashSet<>();
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        zip.setLevel(Deflater.BEST_SPEED); // PDF 는 이미 압축되어 있음
+        try {
+            try (Cursor<SalaryPayment> cursor = salaryMapper.streamPaymentsByMonth(year, month)) {
+                for (SalaryPayment payment : cursor) {
+                    if (inFlight.size() == maxInFlight) {
+                        writeEntry(zip, completion, inFlight);
+                    }
+                    inFlight.add(completion.submit(() -> new RenderedPayslip(entryName(payment), render(payment))));
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                writeEntry(zip, completion, inFlight);
+            }
+        } catch (IOException | RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            finishWithError(zip, e);
+            throw e;
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    /**
+     * 실패 내용을 ERROR.txt 항목으로 남기고 ZIP 닫기 (연결이 끊긴 경우 등 쓰기 실패는 원래 예외에 덧붙임)
+     */
+    private void finishWithError(ZipOutputStream zip, Exception cause) {
+        try {
+            zip.putNextEntry(new ZipEntry("ERROR.txt"));
+            zip.write(("급여명세서 생성이 중간에 실패해 이 파일의 명세서는 일부만 포함되어 있습니다.\n"
+                    + cause.getMessage() + "\n").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, CompletionService<RenderedPayslip> completion,
+                            Set<Future<RenderedPayslip>> inFlight) throws IOException {
+        RenderedPayslip payslip;
+        try {
+            Future<RenderedPayslip> done = completion.take();
+            inFlight.remove(done);
+            payslip = done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("급여명세서 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("급여명세서 생성 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+        zip.putNextEntry(new ZipEntry(payslip.name()));
+        zip.write(payslip.content());
+        zip.closeEntry();
+    }
+
+    private String entryName(SalaryPayment payment) {
+        return String.format("payslip_%d_%02d_%d_%s.pdf", payment.getPaymentYear(), payment.getPaymentMonth(),
+                payment.getMemberNo(), payment.getMemberId() != null ? payment.getMemberId() : "");
+    }
+
+    private byte[] render(SalaryPayment payment) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(16 * 1024);
+        PdfDocument pdf = new PdfDocument(new PdfWriter(outputStream));
+        Document document = new Document(pdf);
+        document.setFont(createFont());
+
+        document.add(new Paragraph(String.format("%d년 %d월 급여명세서 - %s",
+                payment.getPaymentYear(), payment.getPaymentMonth(),
+                payment.getMemberName() != null ? payment.getMemberName() : ""))
+            .setFontSize(18)
+            .setBold()
+            .setTextAlignment(TextAlignment.CENTER)
+            .setMarginBottom(20));
+
+        Table infoTable = newTable();
+        infoTable.addCell(createCell("지급일", true));
+        infoTable.addCell(createCell(payment.getPaymentDate() != null ? payment.getPaymentDate().format(DATE_FORMATTER) : "", false));
+        infoTable.addCell(createCell("근무일수", true));
+        infoTable.addCell(createCell(payment.getWorkDays() != null ? payment.getWorkDays().toString() : "", false));
+        infoTable.addCell(createCell("근무시간", true));
+        infoTable.addCell(createCell(payment.getWorkHours() != null ? payment.getWorkHours().toString() : "", false));
+        document.add(infoTable);
+
+        document.add(sectionTitle("지급 항목"));
+        document.add(amountTable(payment, EARNING_ROWS, "총 지급액", payment.getTotalAmount()));
+
+        document.add(sectionTitle("공제 항목"));
+        document.add(amountTable(payment, DEDUCTION_ROWS, "총 공제액", payment.getTotalDeduction()));
+
+        document.add(new Paragraph("실 지급액: " + formatAmount(payment.getNetAmount()))
+            .setFontSize(14)
+            .setBold()
+            .setTextAlignment(TextAlignment.RIGHT)
+            .setMarginTop(20));
+
+        document.close();
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 문서별 폰트 (PdfFont 는 문서에 묶이므로 한 번 읽은 FontProgram 으로 문서마다 생성)
+     */
+    private PdfFont createFont() {
+        try {
+            if (fontProgram != null) {
+                return PdfFontFactory.createFont(fontProgram, PdfEncodings.IDENTITY_H,
+                        PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
+            }
+            return PdfFontFactory.createFont(StandardFonts.HELVETICA);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Table amountTable(SalaryPayment payment, List<PayslipRow> rows, String totalLabel, BigDecimal total) {
+        Table table = newTable();
+        for (PayslipRow row : rows) {
+            table.addCell(createCell(row.label(), false));
+            table.addCell(createCell(formatAmount(row.amount().apply(payment)), false).setTextAlignment(TextAlignment.RIGHT));
+        }
+        table.addCell(createCell(totalLabel, true));
+        table.addCell(createCell(formatAmount(total), true).setTextAlignment(TextAlignment.RIGHT));
+        return table;
+    }
+
+    private Table newTable() {
+        Table table = new Table(UnitValue.createPercentArray(COLUMN_WIDTHS));
+        table.setWidth(UnitValue.createPercentValue(100));
+        return table;
+    }
+
+    private Paragraph sectionTitle(String text) {
+        return new Paragraph(text)
+            .setFontSize(14)
+            .setBold()
+            .setMarginTop(15)
+            .setMarginBottom(10);
+    }
+
+    private String formatAmount(BigDecimal amount) {
+        return String.format("%,.0f원", amount != null ? amount : BigDecimal.ZERO);
+    }
+
+    private Cell createCell(String text, boolean isHeader) {
+        Cell cell = new Cell()
+            .add(new Paragraph(text).setFontSize(10))
+            .setPadding(5);
+
+        if (isHeader) {
+            cell.setBackgroundColor(ColorConstants.LIGHT_GRAY)
+                .setBold();
+        }
+
+        return cell;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderers.shutdownNow();
+    }
+
+    private record PayslipRow(String label, Function<SalaryPayment, BigDecimal> amount) {
+    }
+
+    private record RenderedPayslip(String name, byte[] content) {
+    }
+}
@@ -1,10 +1,18 @@
 package com.heejong.hr.service;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -17,7 +25,9 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.heejong.hr.entity.Attendance;
 import com.heejong.hr.mapper.AttendanceMapper;
 import com.itextpdf.kernel.colors.ColorConstants;
@@ -36,6 +46,10 @@ import lombok.RequiredArgsConstructor;
 public class ReportService {
 
     private final AttendanceMapper attendanceMapper;
+    private final ObjectMapper objectMapper;
+
+    // 스트리밍 내보내기 flush 간격 (행)
+    private static final int STREAM_FLUSH_ROWS = 500;
 
     /**
      * 출근 통계 리포트를 엑셀 파일로 생성
@@ -251,6 +265,71 @@ public class ReportService {
         return outputStream.toByteArray();
     }
 
+    /**
+     * 기간별 전체 직원 출퇴근 기록 스트리밍 내보내기 (NDJSON / CSV)
+     *
+     * MyBatis Cursor 로 한 행씩 읽어 바로 출력하므로 기간 길이와 관계없이 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAttendanceByDateRange(LocalDate startDate, LocalDate endDate, boolean csv,
+                                            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        if (csv) {
+            writer.write('\uFEFF'); // 엑셀 한글 깨짐 방지 BOM
+            writer.write("attendanceNo,memberNo,memberId,memberName,workDate,checkInTime,checkOutTime,status,workMinutes,memo\n");
+            writer.flush();
+        }
+
+        int rowCount = 0;
+        try (Cursor<Attendance> cursor = attendanceMapper.streamByDateRange(startDate, endDate)) {
+            for (Attendance attendance : cursor) {
+                if (csv) {
+                    writer.write(String.valueOf(attendance.getAttendanceNo()));
+                    writer.write(',');
+                    writer.write(String.valueOf(attendance.getMemberNo()));
+                    writer.write(',');
+                    writer.write(csvValue(attendance.getMemberId()));
+                    writer.write(',');
+                    writer.write(csvValue(attendance.getMemberName()));
+                    writer.write(',');
+                    writer.write(attendance.getWorkDate().toString());
+                    writer.write(',');
+                    writer.write(attendance.getCheckInTime() != null ? attendance.getCheckInTime().format(dateTimeFormatter) : "");
+                    writer.write(',');
+                    writer.write(attendance.getCheckOutTime() != null ? attendance.getCheckOutTime().format(dateTimeFormatter) : "");
+                    writer.write(',');
+                    writer.write(csvValue(attendance.getStatus()));
+                    writer.write(',');
+                    writer.write(attendance.getWorkMinutes() != null ? attendance.getWorkMinutes().toString() : "");
+                    writer.write(',');
+                    writer.write(csvValue(attendance.getMemo()));
+                    writer.write('\n');
+                } else {
+                    writer.write(objectMapper.writeValueAsString(attendance));
+                    writer.write('\n');
+                }
+
+                // 첫 행은 바로 내보내고 이후 일정 행마다 flush
+                if (++rowCount % STREAM_FLUSH_ROWS == 1) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
     private com.itextpdf.layout.element.Cell createCell(String text, boolean isHeader) {
         com.itextpdf.layout.element.Cell cell = new com.itextpdf.layout.element.Cell()
             .add(new Paragraph(text).setFontSize(10))
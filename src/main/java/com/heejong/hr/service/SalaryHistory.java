@@ -0,0 +1,127 @@
+package com.heejong.hr.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.heejong.hr.entity.Salary;
+
+/**
+ * 적용일별 급여 정보 as-of 인덱스 (변경 불가)
+ *
+ * 회원별 버전을 적용일순 배열로 들고 있고, 각 버전은 다음 버전 적용일 전날까지 유효하다.
+ * 급여 일괄 지급 한 번에 한 번만 만들어 두면 회원별 조회는 HashMap 조회 + 몇 개 안 되는 버전의 이진 탐색으로 끝나고 추가 쿼리가 없다.
+ */
+public final class SalaryHistory {
+
+    private static final SalaryHistory EMPTY = new SalaryHistory(Map.of());
+
+    private final Map<Long, Salary[]> versions;
+
+    private SalaryHistory(Map<Long, Salary[]> versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * 급여 정보 버전 목록으로 인덱스 생성 (적용일 없는 버전은 제외)
+     */
+    public static SalaryHistory of(List<Salary> salaries) {
+        if (salaries.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Long, List<Salary>> byMember = salaries.stream()
+                .filter(salary -> salary.getEffectiveDate() != null)
+                .collect(Collectors.groupingBy(Salary::getMemberNo));
+
+        Map<Long, Salary[]> versions = new HashMap<>(byMember.size() * 2);
+        for (Map.Entry<Long, List<Salary>> entry : byMember.entrySet()) {
+            Salary[] sorted = entry.getValue().toArray(new Salary[0]);
+            Arrays.sort(sorted, Comparator.comparing(Salary::getEffectiveDate));
+            versions.put(entry.getKey(), sorted);
+        }
+        return new SalaryHistory(Map.copyOf(versions));
+    }
+
+    public boolean contains(Long memberNo) {
+        return versions.containsKey(memberNo);
+    }
+
+    /**
+     * 해당 일자에 적용되는 급여 정보 (없으면 null)
+     */
+    public Salary asOf(Long memberNo, LocalDate date) {
+        Salary[] memberVersions = versions.get(memberNo);
+        if (memberVersions == null) {
+            return null;
+        }
+        int index = floorIndex(memberVersions, date);
+        return index >= 0 ? memberVersions[index] : null;
+    }
+
+    /**
+     * 기간(start ~ end, 양 끝 포함) 안에서 적용되는 급여 정보 구간 (적용 전 기간은 빠짐)
+     */
+    public List<Segment> segments(Long memberNo, LocalDate start, LocalDate end) {
+        Salary[] memberVersions = versions.get(memberNo);
+        List<Segment> segments = new ArrayList<>();
+        if (memberVersions == null) {
+            return segments;
+        }
+
+        int index = Math.max(floorIndex(memberVersions, start), 0);
+        for (; index < memberVersions.length; index++) {
+            LocalDate from = memberVersions[index].getEffectiveDate();
+            if (from.isAfter(end)) {
+                break;
+            }
+            if (from.isBefore(start)) {
+                from = start;
+            }
+            LocalDate to = index + 1 < memberVersions.length
+                    ? memberVersions[index + 1].getEffectiveDate().minusDays(1)
+                    : end;
+            if (to.isAfter(end)) {
+                to = end;
+            }
+            if (!to.isBefore(from)) {
+                segments.add(new Segment(memberVersions[index], from, to));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 적용일이 date 이하인 마지막 버전 위치 (없으면 -1)
+     */
+    private static int floorIndex(Salary[] memberVersions, LocalDate date) {
+        int low = 0;
+        int high = memberVersions.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (memberVersions[mid].getEffectiveDate().isAfter(date)) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 급여 정보가 적용되는 구간 (양 끝 포함)
+     */
+    public record Segment(Salary salary, LocalDate from, LocalDate to) {
+
+        public int days() {
+            return (int) ChronoUnit.DAYS.between(from, to) + 1;
+        }
+    }
+}
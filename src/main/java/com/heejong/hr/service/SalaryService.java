@@ -3,7 +3,11 @@ package com.heejong.hr.service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.heejong.hr.entity.Salary;
 import com.heejong.hr.entity.SalaryPayment;
 import com.heejong.hr.mapper.SalaryMapper;
+import com.heejong.hr.util.SalaryPaymentCursor;
 import com.heejong.hr.service.EmployeeService;
 
 import lombok.RequiredArgsConstructor;
@@ -22,11 +27,16 @@ public class SalaryService {
     private final SalaryMapper salaryMapper;
     private final EmployeeService employeeService;
     private final NotificationService notificationService;
+    private final DeductionRules deductionRules;
+    private final AttendancePayrollFeed attendancePayrollFeed;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
 
     // ========== 급여 정보 관리 ==========
 
     /**
-     * 급여 정보 등록
+     * 급여 정보 등록 (적용일 버전 추가, 같은 적용일 버전이 있으면 그 버전을 수정)
      */
     @Transactional
     public Salary createSalary(Salary salary) {
@@ -36,30 +46,58 @@ public class SalaryService {
         if (salary.getEffectiveDate() == null) {
             salary.setEffectiveDate(LocalDate.now());
         }
-        
-        salaryMapper.insertSalary(salary);
-        return salaryMapper.findByMemberNo(salary.getMemberNo());
+
+        return salaryMapper.upsertSalaryVersion(salary);
     }
 
     /**
      * 급여 정보 수정
+     *
+     * 적용일이 그대로면 해당 버전을 정정하고, 적용일이 바뀌면 기존 버전은 두고 새 버전을 추가한다 (인상 이력 보존).
      */
     @Transactional
     public Salary updateSalary(Salary salary) {
-        int updated = salaryMapper.updateSalary(salary);
-        if (updated == 0) {
+        Salary existing = salary.getSalaryNo() != null ? salaryMapper.findSalaryByNo(salary.getSalaryNo()) : null;
+        if (existing == null) {
             throw new IllegalArgumentException("수정할 급여 정보를 찾을 수 없습니다.");
         }
-        return salaryMapper.findByMemberNo(salary.getMemberNo());
+
+        if (salary.getEffectiveDate() == null || salary.getEffectiveDate().equals(existing.getEffectiveDate())) {
+            salary.setEffectiveDate(existing.getEffectiveDate());
+            if (salary.getStatus() == null) {
+                salary.setStatus(existing.getStatus());
+            }
+            salaryMapper.updateSalary(salary);
+            return salaryMapper.findSalaryByNo(salary.getSalaryNo());
+        }
+
+        salary.setSalaryNo(null);
+        salary.setMemberNo(existing.getMemberNo());
+        salary.setStatus("ACTIVE");
+        return salaryMapper.upsertSalaryVersion(salary);
     }
 
     /**
-     * 특정 회원의 급여 정보 조회
+     * 특정 회원의 현재 적용 중인 급여 정보 조회
      */
     public Salary getSalary(Long memberNo) {
         return salaryMapper.findByMemberNo(memberNo);
     }
 
+    /**
+     * 특정 회원의 급여 정보 이력 조회 (적용일순)
+     */
+    public List<Salary> getSalaryHistory(Long memberNo) {
+        return salaryMapper.findSalaryHistory(memberNo);
+    }
+
+    /**
+     * 전 직원 급여 정보 as-of 인덱스 (한 번 조회, 급여 일괄 지급 실행마다 생성)
+     */
+    public SalaryHistory loadSalaryHistory() {
+        return SalaryHistory.of(salaryMapper.findActiveVersions(null));
+    }
+
     /**
      * 모든 급여 정보 조회
      */
@@ -82,6 +120,8 @@ public class SalaryService {
 
     /**
      * 급여 지급 생성 (자동 계산) - 연봉 기반
+     *
+     * 근무일수/근무시간/초과근무수당은 급여 일괄 지급과 같이 해당 월 출퇴근 집계로 채운다.
      */
     @Transactional
     public SalaryPayment createSalaryPaymentFromAnnualSalary(Long memberNo, int year, int month) {
@@ -97,6 +137,21 @@ public class SalaryService {
             throw new IllegalArgumentException("해당 월 급여가 이미 등록되어 있습니다.");
         }
 
+        SalaryPayment payment = buildPaymentFromMonthlySalary(memberNo, year, month, monthlySalary);
+        applyWork(payment, attendancePayrollFeed.monthlyWorkOf(YearMonth.of(year, month), memberNo));
+
+        salaryMapper.insertSalaryPayment(payment);
+
+        notificationService.create(memberNo, "SALARY_PAID", "급여 지급",
+                year + "년 " + month + "월 급여가 지급되었습니다.", year + "-" + month);
+
+        return salaryMapper.findPaymentByMemberAndMonth(memberNo, year, month);
+    }
+
+    /**
+     * 월급 기준 급여 지급 내역 계산 (저장하지 않음, 급여 일괄 지급에서도 사용)
+     */
+    public SalaryPayment buildPaymentFromMonthlySalary(Long memberNo, int year, int month, BigDecimal monthlySalary) {
         SalaryPayment payment = new SalaryPayment();
         payment.setMemberNo(memberNo);
         payment.setPaymentYear(year);
@@ -112,62 +167,136 @@ public class SalaryService {
         BigDecimal totalAmount = monthlySalary;
         payment.setTotalAmount(totalAmount);
 
-        // 공제액 계산
-        BigDecimal incomeTax = totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP);
-        BigDecimal nationalPension = totalAmount.multiply(new BigDecimal("0.045")).setScale(0, RoundingMode.HALF_UP);
-        BigDecimal healthInsurance = totalAmount.multiply(new BigDecimal("0.0335")).setScale(0, RoundingMode.HALF_UP);
-        BigDecimal employmentInsurance = totalAmount.multiply(new BigDecimal("0.008")).setScale(0, RoundingMode.HALF_UP);
-
-        payment.setIncomeTax(incomeTax);
-        payment.setNationalPension(nationalPension);
-        payment.setHealthInsurance(healthInsurance);
-        payment.setEmploymentInsurance(employmentInsurance);
-
-        BigDecimal totalDeduction = incomeTax.add(nationalPension).add(healthInsurance).add(employmentInsurance);
-        payment.setTotalDeduction(totalDeduction);
-
-        // 실 지급액
-        BigDecimal netAmount = totalAmount.subtract(totalDeduction);
-        payment.setNetAmount(netAmount);
+        // 공제액, 실 지급액 계산 (지급연도 공제율)
+        deductionRules.apply(payment);
 
         payment.setPaymentDate(LocalDate.now());
         payment.setStatus("PENDING");
 
-        salaryMapper.insertSalaryPayment(payment);
-
-        notificationService.create(memberNo, "SALARY_PAID", "급여 지급",
-                year + "년 " + month + "월 급여가 지급되었습니다.", year + "-" + month);
-
-        return salaryMapper.findPaymentByMemberAndMonth(memberNo, year, month);
+        return payment;
     }
 
     /**
-     * 급여 지급 생성 (자동 계산)
+     * 급여 지급 생성 (자동 계산, 월 중 급여 변경은 일할 계산)
+     *
+     * 근무일수/근무시간/초과근무수당을 주지 않으면 해당 월 출퇴근 집계로 채운다.
      */
     @Transactional
     public SalaryPayment createSalaryPayment(Long memberNo, int year, int month, 
                                              Integer workDays, Integer workHours,
                                              BigDecimal overtimePay, BigDecimal bonus) {
-        // 기존 급여 정보 조회
-        Salary salary = salaryMapper.findByMemberNo(memberNo);
-        if (salary == null) {
-            throw new IllegalArgumentException("급여 정보가 등록되지 않았습니다.");
-        }
-
         // 이미 해당 월 급여가 있는지 확인
         SalaryPayment existing = salaryMapper.findPaymentByMemberAndMonth(memberNo, year, month);
         if (existing != null) {
             throw new IllegalArgumentException("해당 월 급여가 이미 등록되어 있습니다.");
         }
 
+        MonthlyWork work = workDays == null || workHours == null || overtimePay == null
+                ? attendancePayrollFeed.monthlyWorkOf(YearMonth.of(year, month), memberNo)
+                : MonthlyWork.NONE;
+
+        SalaryHistory history = SalaryHistory.of(salaryMapper.findActiveVersions(memberNo));
+        SalaryPayment payment = buildPaymentFromSalaryHistory(history, memberNo, year, month,
+                workDays != null ? workDays : work.workDays(),
+                workHours != null ? workHours : work.workHours(),
+                overtimePay, bonus);
+        if (payment == null) {
+            throw new IllegalArgumentException("급여 정보가 등록되지 않았습니다.");
+        }
+        if (overtimePay == null) {
+            applyOvertime(payment, work.overtimeMinutes());
+        }
+
+        salaryMapper.insertSalaryPayment(payment);
+
+        return salaryMapper.findPaymentByMemberAndMonth(memberNo, year, month);
+    }
+
+    /**
+     * 급여 일괄 지급 규칙의 급여 지급 내역 계산 (저장하지 않음, 급여 일괄 지급과 급여 모의 계산에서 사용)
+     *
+     * 지급월에 적용되는 급여 정보가 있으면 그 기준(월 중 변경은 일할 계산), 없으면 연봉 기준 월급으로 계산하고
+     * 월 근무 집계의 근무일수/근무시간/초과근무수당을 반영한다.
+     *
+     * @param monthlySalary 연봉 기준 월급 (급여 정보가 없을 때만 호출, 연봉이 없으면 null)
+     * @return 급여 정보도 연봉도 없으면 null
+     */
+    public SalaryPayment buildPayrollPayment(SalaryHistory history, Long memberNo, int year, int month,
+                                             Supplier<BigDecimal> monthlySalary, MonthlyWork work) {
+        SalaryPayment payment = buildPaymentFromSalaryHistory(history, memberNo, year, month, null, null, null, null);
+        if (payment == null) {
+            BigDecimal monthly = monthlySalary.get();
+            if (monthly == null) {
+                return null;
+            }
+            payment = buildPaymentFromMonthlySalary(memberNo, year, month, monthly);
+        }
+        applyWork(payment, work);
+        return payment;
+    }
+
+    /**
+     * 월 근무 집계의 근무일수/근무시간을 채우고 초과근무수당 반영
+     */
+    public void applyWork(SalaryPayment payment, MonthlyWork work) {
+        payment.setWorkDays(work.workDays());
+        payment.setWorkHours(work.workHours());
+        if (work.overtimeMinutes() > 0) {
+            applyOvertime(payment, work.overtimeMinutes());
+        }
+    }
+
+    /**
+     * 출퇴근 초과근무 분으로 초과근무수당을 계산해 총 지급액, 공제액, 실 지급액 다시 계산
+     */
+    public void applyOvertime(SalaryPayment payment, int overtimeMinutes) {
+        BigDecimal overtimePay = attendancePayrollFeed.overtimePay(payment.getBaseSalary(), overtimeMinutes);
+        BigDecimal previous = payment.getOvertimePay() != null ? payment.getOvertimePay() : BigDecimal.ZERO;
+        payment.setOvertimePay(overtimePay);
+        payment.setTotalAmount(payment.getTotalAmount().subtract(previous).add(overtimePay));
+        deductionRules.apply(payment);
+    }
+
+    /**
+     * 적용일별 급여 정보 기준 급여 지급 내역 계산 (저장하지 않음, 급여 일괄 지급에서도 사용)
+     *
+     * 지급월 안에서 적용되는 버전별로 기본급/수당을 적용 일수 / 월 일수 만큼 나눠 더한다 (원 단위 반올림).
+     * 한 버전이 한 달 내내 적용되면 금액을 그대로 쓴다.
+     *
+     * @return 지급월에 적용되는 급여 정보가 없으면 null
+     */
+    public SalaryPayment buildPaymentFromSalaryHistory(SalaryHistory history, Long memberNo, int year, int month,
+                                                       Integer workDays, Integer workHours,
+                                                       BigDecimal overtimePay, BigDecimal bonus) {
+        YearMonth paymentMonth = YearMonth.of(year, month);
+        List<SalaryHistory.Segment> segments =
+                history.segments(memberNo, paymentMonth.atDay(1), paymentMonth.atEndOfMonth());
+        if (segments.isEmpty()) {
+            return null;
+        }
+
+        int monthDays = paymentMonth.lengthOfMonth();
+        BigDecimal baseSalary = BigDecimal.ZERO;
+        BigDecimal positionAllowance = BigDecimal.ZERO;
+        BigDecimal mealAllowance = BigDecimal.ZERO;
+        BigDecimal transportAllowance = BigDecimal.ZERO;
+        for (SalaryHistory.Segment segment : segments) {
+            Salary salary = segment.salary();
+            int days = segment.days();
+            baseSalary = baseSalary.add(prorate(salary.getBaseSalary(), days, monthDays));
+            positionAllowance = positionAllowance.add(prorate(salary.getPositionAllowance(), days, monthDays));
+            mealAllowance = mealAllowance.add(prorate(salary.getMealAllowance(), days, monthDays));
+            transportAllowance = transportAllowance.add(prorate(salary.getTransportAllowance(), days, monthDays));
+        }
+
         SalaryPayment payment = new SalaryPayment();
         payment.setMemberNo(memberNo);
         payment.setPaymentYear(year);
         payment.setPaymentMonth(month);
-        payment.setBaseSalary(salary.getBaseSalary());
-        payment.setPositionAllowance(salary.getPositionAllowance() != null ? salary.getPositionAllowance() : BigDecimal.ZERO);
-        payment.setMealAllowance(salary.getMealAllowance() != null ? salary.getMealAllowance() : BigDecimal.ZERO);
-        payment.setTransportAllowance(salary.getTransportAllowance() != null ? salary.getTransportAllowance() : BigDecimal.ZERO);
+        payment.setBaseSalary(baseSalary);
+        payment.setPositionAllowance(positionAllowance);
+        payment.setMealAllowance(mealAllowance);
+        payment.setTransportAllowance(transportAllowance);
         payment.setOvertimePay(overtimePay != null ? overtimePay : BigDecimal.ZERO);
         payment.setBonus(bonus != null ? bonus : BigDecimal.ZERO);
         payment.setWorkDays(workDays);
@@ -182,30 +311,24 @@ public class SalaryService {
                 .add(payment.getBonus());
         payment.setTotalAmount(totalAmount);
 
-        // 공제액 계산 (간이 계산)
-        BigDecimal incomeTax = totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP); // 소득세 5%
-        BigDecimal nationalPension = totalAmount.multiply(new BigDecimal("0.045")).setScale(0, RoundingMode.HALF_UP); // 국민연금 4.5%
-        BigDecimal healthInsurance = totalAmount.multiply(new BigDecimal("0.0335")).setScale(0, RoundingMode.HALF_UP); // 건강보험 3.35%
-        BigDecimal employmentInsurance = totalAmount.multiply(new BigDecimal("0.008")).setScale(0, RoundingMode.HALF_UP); // 고용보험 0.8%
-
-        payment.setIncomeTax(incomeTax);
-        payment.setNationalPension(nationalPension);
-        payment.setHealthInsurance(healthInsurance);
-        payment.setEmploymentInsurance(employmentInsurance);
-
-        BigDecimal totalDeduction = incomeTax.add(nationalPension).add(healthInsurance).add(employmentInsurance);
-        payment.setTotalDeduction(totalDeduction);
-
-        // 실 지급액
-        BigDecimal netAmount = totalAmount.subtract(totalDeduction);
-        payment.setNetAmount(netAmount);
+        // 공제액, 실 지급액 계산 (지급연도 공제율)
+        deductionRules.apply(payment);
 
         payment.setPaymentDate(LocalDate.now());
         payment.setStatus("PENDING");
 
-        salaryMapper.insertSalaryPayment(payment);
+        return payment;
+    }
 
-        return salaryMapper.findPaymentByMemberAndMonth(memberNo, year, month);
+    private BigDecimal prorate(BigDecimal amount, int days, int monthDays) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        if (days == monthDays) {
+            return amount;
+        }
+        return amount.multiply(BigDecimal.valueOf(days))
+                .divide(BigDecimal.valueOf(monthDays), 0, RoundingMode.HALF_UP);
     }
 
     /**
@@ -260,6 +383,63 @@ public class SalaryService {
         return salaryMapper.findAllPayments(year, month);
     }
 
+    /**
+     * 급여 지급 내역 키셋 페이지 조회 (최신 지급월순)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @return payments, nextCursor (마지막 페이지면 null)
+     */
+    public Map<String, Object> getPaymentPage(Integer year, Integer month, String status, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        List<SalaryPayment> rows = salaryMapper.findPaymentPage(year, month, status, SalaryPaymentCursor.decode(cursor), size + 1);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            nextCursor = SalaryPaymentCursor.after(rows.get(size - 1)).encode();
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("payments", rows);
+        result.put("nextCursor", nextCursor);
+        return result;
+    }
+
+    /**
+     * 지급월/상태별 급여 합계 (SQL 집계, 전체 합계는 집계 행을 더해서 계산)
+     *
+     * @return summary (지급월/상태별 행), totals (취소 제외 전체 합계)
+     */
+    public Map<String, Object> getPaymentSummary(Integer year, Integer month) {
+        List<Map<String, Object>> rows = salaryMapper.getPaymentSummary(year, month);
+
+        int paymentCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal totalDeduction = BigDecimal.ZERO;
+        BigDecimal netAmount = BigDecimal.ZERO;
+        for (Map<String, Object> row : rows) {
+            if ("CANCELLED".equals(row.get("status"))) {
+                continue;
+            }
+            paymentCount += ((Number) row.get("paymentCount")).intValue();
+            totalAmount = totalAmount.add((BigDecimal) row.get("totalAmount"));
+            totalDeduction = totalDeduction.add((BigDecimal) row.get("totalDeduction"));
+            netAmount = netAmount.add((BigDecimal) row.get("netAmount"));
+        }
+
+        Map<String, Object> totals = new HashMap<>();
+        totals.put("paymentCount", paymentCount);
+        totals.put("totalAmount", totalAmount);
+        totals.put("totalDeduction", totalDeduction);
+        totals.put("netAmount", netAmount);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("summary", rows);
+        result.put("totals", totals);
+        return result;
+    }
+
     /**
      * 급여 지급 내역 삭제
      */
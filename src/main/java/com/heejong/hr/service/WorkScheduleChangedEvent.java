@@ -0,0 +1,7 @@
+package com.heejong.hr.service;
+
+/**
+ * 근무 일정/배정 변경 이벤트 (커밋 후 규칙 다시 컴파일)
+ */
+public record WorkScheduleChangedEvent() {
+}
@@ -0,0 +1,75 @@
+package com.heejong.hr.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.heejong.hr.entity.WorkSchedule;
+import com.heejong.hr.mapper.WorkScheduleMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 근무 일정 조회 규칙
+ *
+ * 일정과 배정(회원 > 역할 > 기본 일정)을 회원번호 → WorkShift 의 변경 불가 Map 으로 컴파일해 두고 통째로 교체한다.
+ * 출근/퇴근 시에는 Map 조회 한 번으로 끝나며 DB 를 조회하지 않는다.
+ * 일정 변경 커밋 후와 5분마다(신규 회원, 역할 변경 반영) 다시 컴파일한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkScheduleRules {
+
+    private final WorkScheduleMapper workScheduleMapper;
+
+    private volatile Rules rules = new Rules(Map.of(), WorkShift.DEFAULT);
+
+    /**
+     * 회원에게 적용되는 근무 일정 (배정이 없으면 기본 일정)
+     */
+    public WorkShift shiftOf(Long memberNo) {
+        Rules current = rules;
+        return current.byMember().getOrDefault(memberNo, current.defaultShift());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(WorkScheduleChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelay = 300000)
+    public synchronized void refresh() {
+        Map<Long, WorkShift> bySchedule = new HashMap<>();
+        WorkShift defaultShift = WorkShift.DEFAULT;
+        for (WorkSchedule schedule : workScheduleMapper.findAll()) {
+            WorkShift shift = WorkShift.of(schedule);
+            bySchedule.put(schedule.getScheduleNo(), shift);
+            if (Boolean.TRUE.equals(schedule.getIsDefault())) {
+                defaultShift = shift;
+            }
+        }
+
+        Map<Long, WorkShift> byMember = new HashMap<>();
+        for (Map<String, Object> row : workScheduleMapper.findEffectiveAssignments()) {
+            WorkShift shift = bySchedule.get(((Number) row.get("scheduleNo")).longValue());
+            if (shift != null) {
+                byMember.put(((Number) row.get("memberNo")).longValue(), shift);
+            }
+        }
+
+        rules = new Rules(Map.copyOf(byMember), defaultShift);
+    }
+
+    private record Rules(Map<Long, WorkShift> byMember, WorkShift defaultShift) {
+    }
+}
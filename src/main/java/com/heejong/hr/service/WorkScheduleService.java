@@ -0,0 +1,122 @@
+package com.heejong.hr.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.heejong.hr.entity.WorkSchedule;
+import com.heejong.hr.mapper.WorkScheduleMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class WorkScheduleService {
+
+    private final WorkScheduleMapper workScheduleMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 모든 근무 일정 조회
+     */
+    public List<WorkSchedule> getAllSchedules() {
+        return workScheduleMapper.findAll();
+    }
+
+    /**
+     * 근무 일정 등록
+     */
+    @Transactional
+    public WorkSchedule createSchedule(WorkSchedule schedule) {
+        validate(schedule);
+        if (Boolean.TRUE.equals(schedule.getIsDefault())) {
+            workScheduleMapper.clearDefault();
+        }
+        workScheduleMapper.insertSchedule(schedule);
+        eventPublisher.publishEvent(new WorkScheduleChangedEvent());
+        return schedule;
+    }
+
+    /**
+     * 근무 일정 수정
+     */
+    @Transactional
+    public void updateSchedule(WorkSchedule schedule) {
+        validate(schedule);
+        if (Boolean.TRUE.equals(schedule.getIsDefault())) {
+            workScheduleMapper.clearDefault();
+        }
+        if (workScheduleMapper.updateSchedule(schedule) == 0) {
+            throw new IllegalArgumentException("근무 일정을 찾을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(new WorkScheduleChangedEvent());
+    }
+
+    /**
+     * 근무 일정 삭제 (배정도 함께 삭제)
+     */
+    @Transactional
+    public void deleteSchedule(Long scheduleNo) {
+        if (workScheduleMapper.deleteSchedule(scheduleNo) == 0) {
+            throw new IllegalArgumentException("근무 일정을 찾을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(new WorkScheduleChangedEvent());
+    }
+
+    /**
+     * 회원에게 근무 일정 배정 (scheduleNo 가 null 이면 해제)
+     */
+    @Transactional
+    public void assignMember(Long memberNo, Long scheduleNo) {
+        if (scheduleNo == null) {
+            workScheduleMapper.unassignMember(memberNo);
+        } else {
+            requireSchedule(scheduleNo);
+            workScheduleMapper.assignMember(memberNo, scheduleNo);
+        }
+        eventPublisher.publishEvent(new WorkScheduleChangedEvent());
+    }
+
+    /**
+     * 역할에 근무 일정 배정 (scheduleNo 가 null 이면 해제)
+     */
+    @Transactional
+    public void assignRole(String role, Long scheduleNo) {
+        if (scheduleNo == null) {
+            workScheduleMapper.unassignRole(role);
+        } else {
+            requireSchedule(scheduleNo);
+            workScheduleMapper.assignRole(role, scheduleNo);
+        }
+        eventPublisher.publishEvent(new WorkScheduleChangedEvent());
+    }
+
+    private void requireSchedule(Long scheduleNo) {
+        if (workScheduleMapper.findByScheduleNo(scheduleNo) == null) {
+            throw new IllegalArgumentException("근무 일정을 찾을 수 없습니다.");
+        }
+    }
+
+    private void validate(WorkSchedule schedule) {
+        if (schedule.getName() == null || schedule.getName().isBlank()) {
+            throw new IllegalArgumentException("일정 이름을 입력해주세요.");
+        }
+        if (schedule.getStartTime() == null || schedule.getEndTime() == null) {
+            throw new IllegalArgumentException("근무 시작/종료 시각을 입력해주세요.");
+        }
+        if (schedule.getFlexMinutes() == null) {
+            schedule.setFlexMinutes(0);
+        }
+        if (schedule.getMinWorkMinutes() == null) {
+            schedule.setMinWorkMinutes(WorkShift.DEFAULT.minWorkMinutes());
+        }
+        if (schedule.getFlexMinutes() < 0 || schedule.getMinWorkMinutes() < 0) {
+            throw new IllegalArgumentException("유연 시간과 최소 근무시간은 0 이상이어야 합니다.");
+        }
+        if (schedule.getIsDefault() == null) {
+            schedule.setIsDefault(false);
+        }
+    }
+}
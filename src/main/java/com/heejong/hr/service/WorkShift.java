@@ -0,0 +1,61 @@
+package com.heejong.hr.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.heejong.hr.entity.WorkSchedule;
+
+/**
+ * 컴파일된 근무 일정 (변경 불가, 분 단위 정수만 보관)
+ *
+ * 출근/퇴근 판단은 시각 비교 몇 번으로 끝나며 DB 를 조회하지 않는다.
+ * 종료 시각이 시작 시각보다 이르거나 같으면 다음 날 종료되는 야간 근무로 본다.
+ */
+public record WorkShift(int startMinute, int endMinute, int flexMinutes, int minWorkMinutes) {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // 일정이 없을 때의 기준 (9시 출근, 18시 퇴근, 8시간 미만 근무 시 조퇴)
+    public static final WorkShift DEFAULT = new WorkShift(9 * 60, 18 * 60, 0, 480);
+
+    static WorkShift of(WorkSchedule schedule) {
+        return new WorkShift(
+                schedule.getStartTime().getHour() * 60 + schedule.getStartTime().getMinute(),
+                schedule.getEndTime().getHour() * 60 + schedule.getEndTime().getMinute(),
+                schedule.getFlexMinutes() != null ? schedule.getFlexMinutes() : 0,
+                schedule.getMinWorkMinutes() != null ? schedule.getMinWorkMinutes() : DEFAULT.minWorkMinutes);
+    }
+
+    public boolean isOvernight() {
+        return endMinute <= startMinute;
+    }
+
+    /**
+     * 해당 시각이 속한 근무일
+     *
+     * 야간 근무는 퇴근 시각과 다음 출근 시각의 중간 이전이면 전날 근무로 본다.
+     */
+    public LocalDate workDate(LocalDateTime at) {
+        if (!isOvernight()) {
+            return at.toLocalDate();
+        }
+        int cutoff = endMinute + (startMinute - endMinute) / 2;
+        int minute = at.getHour() * 60 + at.getMinute();
+        return minute < cutoff ? at.toLocalDate().minusDays(1) : at.toLocalDate();
+    }
+
+    /**
+     * 출근 상태 (시작 시각 + 유연 시간 이후면 지각)
+     */
+    public String checkInStatus(LocalDateTime checkInTime) {
+        LocalDateTime lateAfter = workDate(checkInTime).atStartOfDay().plusMinutes(startMinute + flexMinutes);
+        return checkInTime.isAfter(lateAfter) ? "LATE" : "NORMAL";
+    }
+
+    /**
+     * 해당 근무일의 근무 종료 시각
+     */
+    public LocalDateTime shiftEnd(LocalDate workDate) {
+        return workDate.atStartOfDay().plusMinutes(isOvernight() ? endMinute + MINUTES_PER_DAY : endMinute);
+    }
+}
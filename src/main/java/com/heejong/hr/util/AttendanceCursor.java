@@ -0,0 +1,49 @@
+package com.heejong.hr.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.heejong.hr.entity.Attendance;
+
+/**
+ * 출퇴근 기록 키셋 페이징 커서 (work_date, check_in_time, attendance_no)
+ *
+ * 클라이언트에는 Base64 문자열로만 전달한다.
+ */
+public record AttendanceCursor(LocalDate workDate, LocalDateTime checkInTime, Long attendanceNo) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 마지막 행으로부터 다음 페이지 커서 생성
+     */
+    public static AttendanceCursor after(Attendance last) {
+        return new AttendanceCursor(last.getWorkDate(), last.getCheckInTime(), last.getAttendanceNo());
+    }
+
+    public String encode() {
+        String raw = workDate + SEPARATOR + (checkInTime != null ? checkInTime.toString() : "") + SEPARATOR + attendanceNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지 → null)
+     */
+    public static AttendanceCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new AttendanceCursor(
+                    LocalDate.parse(parts[0]),
+                    parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                    Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.heejong.hr.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.heejong.hr.entity.SalaryPayment;
+
+/**
+ * 급여 지급 내역 키셋 페이징 커서 (payment_year, payment_month, salary_payment_no)
+ *
+ * 클라이언트에는 Base64 문자열로만 전달한다.
+ */
+public record SalaryPaymentCursor(Integer paymentYear, Integer paymentMonth, Long salaryPaymentNo) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 마지막 행으로부터 다음 페이지 커서 생성
+     */
+    public static SalaryPaymentCursor after(SalaryPayment last) {
+        return new SalaryPaymentCursor(last.getPaymentYear(), last.getPaymentMonth(), last.getSalaryPaymentNo());
+    }
+
+    public String encode() {
+        String raw = paymentYear + SEPARATOR + paymentMonth + SEPARATOR + salaryPaymentNo;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지 → null)
+     */
+    public static SalaryPaymentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new SalaryPaymentCursor(Integer.valueOf(parts[0]), Integer.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+}
@@ -23,3 +23,295 @@ CREATE TABLE IF NOT EXISTS hr.notice_read (
 
 CREATE INDEX IF NOT EXISTS idx_notification_member ON hr.notification(member_no);
 CREATE INDEX IF NOT EXISTS idx_notification_created ON hr.notification(created_at DESC);
+
+-- 출퇴근: work_date 월 단위 범위 파티션
+CREATE SCHEMA IF NOT EXISTS hr_archive;
+
+-- 해당 월 파티션 생성 (이미 있으면 false, 기본 파티션에 들어가 있던 행은 옮김)
+CREATE OR REPLACE FUNCTION hr.ensure_attendance_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::date;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::date;
+    v_name TEXT := 'attendance_' || to_char(p_month, 'YYYYMM');
+BEGIN
+    IF to_regclass('hr.' || v_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('CREATE TABLE hr.%I (LIKE hr.attendance INCLUDING DEFAULTS)', v_name);
+    EXECUTE format('WITH moved AS (DELETE FROM hr.attendance_default WHERE work_date >= %L AND work_date < %L RETURNING *) '
+                   'INSERT INTO hr.%I SELECT * FROM moved', v_start, v_end, v_name);
+    EXECUTE format('ALTER TABLE hr.attendance ATTACH PARTITION hr.%I FOR VALUES FROM (%L) TO (%L)', v_name, v_start, v_end);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 해당 월 파티션 분리 후 hr_archive 스키마로 이동 (없으면 false)
+CREATE OR REPLACE FUNCTION hr.archive_attendance_partition(p_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    v_name TEXT := 'attendance_' || to_char(p_month, 'YYYYMM');
+BEGIN
+    IF to_regclass('hr.' || v_name) IS NULL THEN
+        RETURN false;
+    END IF;
+    EXECUTE format('ALTER TABLE hr.attendance DETACH PARTITION hr.%I', v_name);
+    EXECUTE format('ALTER TABLE hr.%I SET SCHEMA hr_archive', v_name);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 출퇴근 회원별 하루 한 건 인덱스(uq_attendance_member_date) 생성 전 중복 확인
+-- 이전에는 조회 후 등록이라 동시 요청으로 중복이 생길 수 있었음. 파티션 전환 전에 확인해 중간에 멈추지 않게 하고,
+-- 어느 기록을 남길지는 사람이 정하도록 임의로 지우지 않고 목록과 확인 쿼리를 알려주며 중단
+DO $$
+DECLARE
+    v_count BIGINT;
+    v_sample TEXT;
+BEGIN
+    IF to_regclass('hr.uq_attendance_member_date') IS NULL THEN
+        SELECT COUNT(*), string_agg(format('회원 %s %s (출퇴근 번호 %s)', member_no, work_date, attendance_nos), ', ')
+        INTO v_count, v_sample
+        FROM (
+            SELECT member_no, work_date,
+                   string_agg(attendance_no::text, ',' ORDER BY attendance_no) AS attendance_nos
+            FROM hr.attendance
+            GROUP BY member_no, work_date
+            HAVING COUNT(*) > 1
+            ORDER BY member_no, work_date
+            LIMIT 20
+        ) d;
+        IF v_count > 0 THEN
+            RAISE EXCEPTION '회원/근무일이 같은 출퇴근 기록이 있어 uq_attendance_member_date 를 만들 수 없습니다: %', v_sample
+                USING HINT = '확인: SELECT member_no, work_date, array_agg(attendance_no ORDER BY attendance_no) '
+                          || 'FROM hr.attendance GROUP BY 1, 2 HAVING COUNT(*) > 1; '
+                          || '근무일마다 남길 기록 하나만 두고 정리한 뒤 다시 실행하세요.';
+        END IF;
+    END IF;
+END;
+$$;
+
+-- 기존 일반 테이블이면 파티션 테이블로 전환 (한 번만 실행됨)
+DO $$
+DECLARE
+    v_seq TEXT;
+    v_first DATE;
+    v_month DATE;
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE n.nspname = 'hr' AND c.relname = 'attendance' AND c.relkind = 'r') THEN
+        v_seq := pg_get_serial_sequence('hr.attendance', 'attendance_no');
+
+        ALTER TABLE hr.attendance RENAME TO attendance_legacy;
+        CREATE TABLE hr.attendance (LIKE hr.attendance_legacy INCLUDING DEFAULTS INCLUDING IDENTITY)
+            PARTITION BY RANGE (work_date);
+        ALTER TABLE hr.attendance ADD PRIMARY KEY (attendance_no, work_date);
+        ALTER TABLE hr.attendance ADD FOREIGN KEY (member_no) REFERENCES hr.member(member_no) ON DELETE CASCADE;
+        CREATE TABLE hr.attendance_default PARTITION OF hr.attendance DEFAULT;
+
+        SELECT COALESCE(MIN(work_date), CURRENT_DATE) INTO v_first FROM hr.attendance_legacy;
+        FOR v_month IN
+            SELECT generate_series(date_trunc('month', v_first), date_trunc('month', CURRENT_DATE) + INTERVAL '3 month',
+                                   INTERVAL '1 month')::date
+        LOOP
+            PERFORM hr.ensure_attendance_partition(v_month);
+        END LOOP;
+
+        INSERT INTO hr.attendance OVERRIDING SYSTEM VALUE SELECT * FROM hr.attendance_legacy;
+
+        -- serial 이면 기존 시퀀스를 새 테이블 소유로 옮기고, 어느 경우든 다음 번호를 기존 최대값 이후로 맞춤
+        IF v_seq IS NOT NULL AND pg_get_serial_sequence('hr.attendance', 'attendance_no') IS NULL THEN
+            EXECUTE format('ALTER SEQUENCE %s OWNED BY hr.attendance.attendance_no', v_seq);
+        END IF;
+        PERFORM setval(pg_get_serial_sequence('hr.attendance', 'attendance_no'),
+                       COALESCE((SELECT MAX(attendance_no) FROM hr.attendance), 0) + 1, false);
+
+        DROP TABLE hr.attendance_legacy;
+    END IF;
+END;
+$$;
+
+-- 출퇴근: 회원별 하루 한 건 (출근 일괄 적재 ON CONFLICT 대상, 회원별 월/연 범위 조회 인덱스 겸용)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_attendance_member_date ON hr.attendance(member_no, work_date);
+-- 출퇴근: 키셋 페이징 (전체 / 회원별 최신순)
+CREATE INDEX IF NOT EXISTS idx_attendance_page
+    ON hr.attendance(work_date DESC, COALESCE(check_in_time, '-infinity'::timestamp) DESC, attendance_no DESC);
+CREATE INDEX IF NOT EXISTS idx_attendance_member_page
+    ON hr.attendance(member_no, work_date DESC, COALESCE(check_in_time, '-infinity'::timestamp) DESC, attendance_no DESC);
+-- 출퇴근: 날짜/기간별 전체 직원 조회 (출퇴근 시각 분포는 테이블을 읽지 않고 인덱스만으로 집계)
+DROP INDEX IF EXISTS hr.idx_attendance_work_date;
+CREATE INDEX IF NOT EXISTS idx_attendance_work_date_times
+    ON hr.attendance(work_date) INCLUDE (member_no, check_in_time, check_out_time, status);
+
+-- 출퇴근: 자동 퇴근 처리 등 확인이 필요한 기록 표시
+ALTER TABLE hr.attendance ADD COLUMN IF NOT EXISTS needs_review BOOLEAN NOT NULL DEFAULT false;
+-- 출퇴근: 퇴근 기록이 없는 출근 (자동 퇴근 처리 대상만 담는 작은 부분 인덱스)
+CREATE INDEX IF NOT EXISTS idx_attendance_open ON hr.attendance(work_date)
+    WHERE check_in_time IS NOT NULL AND check_out_time IS NULL;
+-- 출퇴근: 확인 대기 기록
+CREATE INDEX IF NOT EXISTS idx_attendance_needs_review ON hr.attendance(work_date DESC) WHERE needs_review;
+
+-- 월별 출근 요약 (회원 x 월 1행, 출퇴근 등록과 같은 트랜잭션에서 갱신, total_days 는 결근 제외)
+CREATE TABLE IF NOT EXISTS hr.attendance_monthly_summary (
+    member_no BIGINT NOT NULL REFERENCES hr.member(member_no) ON DELETE CASCADE,
+    summary_year INT NOT NULL,
+    summary_month INT NOT NULL,
+    total_days INT NOT NULL DEFAULT 0,
+    normal_days INT NOT NULL DEFAULT 0,
+    late_days INT NOT NULL DEFAULT 0,
+    early_leave_days INT NOT NULL DEFAULT 0,
+    absent_days INT NOT NULL DEFAULT 0,
+    total_work_minutes INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (member_no, summary_year, summary_month)
+);
+
+-- 휴가: 결근 일괄 처리 시 회원별 승인 휴가 기간 확인
+CREATE INDEX IF NOT EXISTS idx_leave_request_member_period ON hr.leave_request(member_no, start_date, end_date)
+    WHERE status = 'approved';
+
+-- 근무 일정 (출근 지각/퇴근 조퇴 판단 기준, 종료 시각이 시작보다 이르면 야간 근무)
+CREATE TABLE IF NOT EXISTS hr.work_schedule (
+    schedule_no BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    flex_minutes INT NOT NULL DEFAULT 0,
+    min_work_minutes INT NOT NULL DEFAULT 480,
+    is_default BOOLEAN NOT NULL DEFAULT false,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_work_schedule_default ON hr.work_schedule(is_default) WHERE is_default;
+
+-- 근무 일정 배정 (회원 또는 역할 단위, 회원 배정이 우선)
+CREATE TABLE IF NOT EXISTS hr.work_schedule_assignment (
+    assignment_no BIGSERIAL PRIMARY KEY,
+    schedule_no BIGINT NOT NULL REFERENCES hr.work_schedule(schedule_no) ON DELETE CASCADE,
+    member_no BIGINT NULL REFERENCES hr.member(member_no) ON DELETE CASCADE,
+    role VARCHAR(50) NULL,
+    CHECK ((member_no IS NULL) <> (role IS NULL))
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_work_schedule_assignment_member ON hr.work_schedule_assignment(member_no)
+    WHERE member_no IS NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_work_schedule_assignment_role ON hr.work_schedule_assignment(role)
+    WHERE role IS NOT NULL;
+
+-- 급여 지급: 회원별 월 1건 (일괄 지급 ON CONFLICT 대상), 월별 조회
+-- 이전에는 애플리케이션에서만 중복을 막았으므로 중복 지급 내역이 있으면 임의로 지우지 않고 목록과 확인 쿼리를 알려주며 중단
+DO $$
+DECLARE
+    v_count BIGINT;
+    v_sample TEXT;
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes
+                   WHERE schemaname = 'hr' AND indexname = 'uq_salary_payment_member_month') THEN
+        SELECT COUNT(*), string_agg(format('회원 %s %s-%s (지급번호 %s)', member_no, payment_year, payment_month, payment_nos), ', ')
+        INTO v_count, v_sample
+        FROM (
+            SELECT member_no, payment_year, payment_month,
+                   string_agg(salary_payment_no::text, ',' ORDER BY salary_payment_no) AS payment_nos
+            FROM hr.salary_payment
+            GROUP BY member_no, payment_year, payment_month
+            HAVING COUNT(*) > 1
+            ORDER BY member_no, payment_year, payment_month
+            LIMIT 20
+        ) d;
+        IF v_count > 0 THEN
+            RAISE EXCEPTION '회원/지급월이 같은 급여 지급 내역이 있어 uq_salary_payment_member_month 를 만들 수 없습니다: %', v_sample
+                USING HINT = '확인: SELECT member_no, payment_year, payment_month, array_agg(salary_payment_no ORDER BY salary_payment_no) '
+                          || 'FROM hr.salary_payment GROUP BY 1, 2, 3 HAVING COUNT(*) > 1; '
+                          || '남길 지급 내역 하나만 두고 정리한 뒤 다시 실행하세요.';
+        END IF;
+    END IF;
+END;
+$$;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_salary_payment_member_month
+    ON hr.salary_payment(member_no, payment_year, payment_month);
+CREATE INDEX IF NOT EXISTS idx_salary_payment_period ON hr.salary_payment(payment_year, payment_month);
+
+-- 급여 일괄 지급 실행 기록 (진행 상황, 재개 대상 확인용)
+CREATE TABLE IF NOT EXISTS hr.payroll_run (
+    run_no BIGSERIAL PRIMARY KEY,
+    payment_year INT NOT NULL,
+    payment_month INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_count INT NOT NULL DEFAULT 0,
+    skipped_count INT NOT NULL DEFAULT 0,
+    processed_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_payroll_run_period ON hr.payroll_run(payment_year, payment_month, run_no DESC);
+
+-- 연도별 급여 공제율 (effective_year 부터 다음 버전 전까지 적용, 소수점 6자리까지)
+CREATE TABLE IF NOT EXISTS hr.deduction_rate (
+    effective_year INT NOT NULL,
+    item VARCHAR(50) NOT NULL,
+    rate NUMERIC(8, 6) NOT NULL,
+    PRIMARY KEY (effective_year, item)
+);
+INSERT INTO hr.deduction_rate (effective_year, item, rate) VALUES
+    (2000, 'INCOME_TAX', 0.05),
+    (2000, 'NATIONAL_PENSION', 0.045),
+    (2000, 'HEALTH_INSURANCE', 0.0335),
+    (2000, 'EMPLOYMENT_INSURANCE', 0.008)
+ON CONFLICT (effective_year, item) DO NOTHING;
+
+-- 급여 지급 내역 키셋 페이징/지급월별 합계용 인덱스 (합계 컬럼 포함으로 테이블 접근 없이 집계)
+DROP INDEX IF EXISTS hr.idx_salary_payment_period;
+CREATE INDEX IF NOT EXISTS idx_salary_payment_period_keyset
+    ON hr.salary_payment(payment_year, payment_month, salary_payment_no)
+    INCLUDE (status, total_amount, total_deduction, net_amount);
+
+-- 급여 정보 적용일별 이력 (변경 시 새 버전 추가, 회원/적용일마다 활성 버전 하나)
+UPDATE hr.salary SET effective_date = DATE '2000-01-01' WHERE effective_date IS NULL;
+ALTER TABLE hr.salary ALTER COLUMN effective_date SET NOT NULL;
+-- 적용일이 같은 활성 버전이 여럿이면(적용일 없던 기존 행 포함) 가장 최근 salary_no 만 남기고 비활성 처리
+UPDATE hr.salary s
+SET status = 'INACTIVE'
+WHERE s.status = 'ACTIVE'
+  AND EXISTS (
+      SELECT 1 FROM hr.salary newer
+      WHERE newer.member_no = s.member_no
+        AND newer.effective_date = s.effective_date
+        AND newer.status = 'ACTIVE'
+        AND newer.salary_no > s.salary_no
+  );
+CREATE UNIQUE INDEX IF NOT EXISTS uq_salary_member_effective
+    ON hr.salary(member_no, effective_date) WHERE status = 'ACTIVE';
+
+-- 급여 일괄 지급 장부: 멱등 키, 실행 시작 시 고정한 지급일, 마지막으로 커밋된 구간 (재개 위치)
+ALTER TABLE hr.payroll_run ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(100);
+ALTER TABLE hr.payroll_run ADD COLUMN IF NOT EXISTS payment_date DATE;
+ALTER TABLE hr.payroll_run ADD COLUMN IF NOT EXISTS last_member_no BIGINT;
+ALTER TABLE hr.payroll_run ADD COLUMN IF NOT EXISTS chunk_count INT NOT NULL DEFAULT 0;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_payroll_run_idempotency_key
+    ON hr.payroll_run(idempotency_key) WHERE idempotency_key IS NOT NULL;
+
+-- 급여 일괄 지급 구간 커밋 기록 (추가만 함, 급여 등록과 같은 트랜잭션에서 기록)
+CREATE TABLE IF NOT EXISTS hr.payroll_run_chunk (
+    run_no BIGINT NOT NULL REFERENCES hr.payroll_run(run_no),
+    chunk_no INT NOT NULL,
+    first_member_no BIGINT NOT NULL,
+    last_member_no BIGINT NOT NULL,
+    member_count INT NOT NULL,
+    inserted_count INT NOT NULL,
+    skipped_count INT NOT NULL,
+    failed_count INT NOT NULL,
+    total_amount NUMERIC(15, 2) NOT NULL,
+    committed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (run_no, chunk_no)
+);
+
+-- 급여 지급을 등록한 일괄 지급 실행 (수동 등록은 NULL)
+ALTER TABLE hr.salary_payment ADD COLUMN IF NOT EXISTS run_no BIGINT;
+CREATE INDEX IF NOT EXISTS idx_salary_payment_run ON hr.salary_payment(run_no) WHERE run_no IS NOT NULL;
+
+-- 급여 일괄 지급 계산 실패 회원 (재개 시 먼저 다시 계산하고 성공/제외되면 삭제)
+CREATE TABLE IF NOT EXISTS hr.payroll_run_failure (
+    run_no BIGINT NOT NULL REFERENCES hr.payroll_run(run_no),
+    member_no BIGINT NOT NULL,
+    error_message VARCHAR(1000),
+    failed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (run_no, member_no)
+);
@@ -0,0 +1,95 @@
+package com.heejong.hr.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.heejong.hr.entity.SalaryPayment;
+import com.heejong.hr.service.DeductionRules;
+
+/**
+ * 공제 계산 마이크로 벤치마크
+ *
+ * 같은 지급 내역 배열에 DeductionRules.apply(원 단위 long 계산)와 기존 BigDecimal 계산식을 번갈아 적용해
+ * 라운드별 건당 시간(ns)과 배율을 출력한다. 워밍업 라운드는 JIT 컴파일 후 측정하기 위해 버린다.
+ * JMH 가 아니므로 같은 장비에서 두 계산식을 비교하는 용도로만 본다.
+ *
+ * 기본 test 에서는 실행되지 않는다: ./gradlew benchmarkDeductions -Pamounts=100000 -Prounds=10
+ */
+@EnabledIfSystemProperty(named = "payroll.benchmark.enabled", matches = "true")
+class DeductionBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+
+    private final DeductionRules deductionRules = new DeductionRules(null);
+
+    @Test
+    void longPathAgainstBigDecimalPath() {
+        int amounts = Integer.getInteger("payroll.benchmark.amounts", 100_000);
+        int rounds = Integer.getInteger("payroll.benchmark.rounds", 10);
+
+        Random random = new Random(7);
+        SalaryPayment[] payments = new SalaryPayment[amounts];
+        for (int i = 0; i < amounts; i++) {
+            SalaryPayment payment = new SalaryPayment();
+            payment.setPaymentYear(2025);
+            payment.setTotalAmount(BigDecimal.valueOf(1_000_000 + random.nextInt(9_000_000)));
+            payments[i] = payment;
+        }
+
+        long longNanos = 0;
+        long bigDecimalNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + rounds; round++) {
+            long longRound = time(payments, deductionRules::apply);
+            long bigDecimalRound = time(payments, DeductionBenchmark::applyBigDecimal);
+            if (round < WARMUP_ROUNDS) {
+                continue;
+            }
+            longNanos += longRound;
+            bigDecimalNanos += bigDecimalRound;
+            System.out.printf("round %2d: long %6.1f ns/op, BigDecimal %6.1f ns/op%n", round - WARMUP_ROUNDS + 1,
+                    (double) longRound / amounts, (double) bigDecimalRound / amounts);
+        }
+
+        double longPerOp = (double) longNanos / ((long) amounts * rounds);
+        double bigDecimalPerOp = (double) bigDecimalNanos / ((long) amounts * rounds);
+        System.out.printf("공제 계산 %,d건 x %d라운드: long %.1f ns/op, BigDecimal %.1f ns/op (%.2f배)%n",
+                amounts, rounds, longPerOp, bigDecimalPerOp, bigDecimalPerOp / longPerOp);
+
+        // 마지막 적용 결과가 두 계산식에서 같은지 (측정 대상이 최적화로 사라지지 않게 결과도 사용)
+        SalaryPayment sample = payments[amounts - 1];
+        BigDecimal netByBigDecimal = sample.getNetAmount();
+        deductionRules.apply(sample);
+        assertThat(sample.getNetAmount()).isEqualByComparingTo(netByBigDecimal);
+    }
+
+    private static long time(SalaryPayment[] payments, Consumer<SalaryPayment> calculation) {
+        long start = System.nanoTime();
+        for (SalaryPayment payment : payments) {
+            calculation.accept(payment);
+        }
+        return System.nanoTime() - start;
+    }
+
+    // 기존 SalaryService 계산식 (공제율 상수 BigDecimal 곱셈, 원 단위 HALF_UP)
+    private static void applyBigDecimal(SalaryPayment payment) {
+        BigDecimal totalAmount = payment.getTotalAmount();
+        BigDecimal incomeTax = totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal nationalPension = totalAmount.multiply(new BigDecimal("0.045")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal healthInsurance = totalAmount.multiply(new BigDecimal("0.0335")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal employmentInsurance = totalAmount.multiply(new BigDecimal("0.008")).setScale(0, RoundingMode.HALF_UP);
+        payment.setIncomeTax(incomeTax);
+        payment.setNationalPension(nationalPension);
+        payment.setHealthInsurance(healthInsurance);
+        payment.setEmploymentInsurance(employmentInsurance);
+        BigDecimal totalDeduction = incomeTax.add(nationalPension).add(healthInsurance).add(employmentInsurance);
+        payment.setTotalDeduction(totalDeduction);
+        payment.setNetAmount(totalAmount.subtract(totalDeduction));
+    }
+}
@@ -0,0 +1,109 @@
+package com.heejong.hr.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 출퇴근 월/연 조회가 (member_no, work_date) 인덱스의 범위 조건을 타는지,
+ * 월/연 통계가 월별 요약 테이블 PK 로만 조회되는지,
+ * 출퇴근 번호로 조회/수정/삭제할 때 근무일 조건으로 해당 월 파티션만 접근하는지 EXPLAIN 으로 확인
+ */
+class AttendanceMapperPlanTests extends MapperPlanTestSupport {
+
+    AttendanceMapperPlanTests() {
+        super(AttendanceMapper.class);
+    }
+
+    @Test
+    void findByMemberNoAndMonthUsesWorkDateRange() {
+        assertWorkDateIndexCond("findByMemberNoAndMonth", monthParams());
+    }
+
+    @Test
+    void getTotalWorkMinutesUsesWorkDateRange() {
+        assertWorkDateIndexCond("getTotalWorkMinutes", monthParams());
+    }
+
+    @Test
+    void findYearCalendarUsesWorkDateRange() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("memberNo", 1L);
+        params.put("year", 2025);
+        assertWorkDateIndexCond("findYearCalendar", params);
+    }
+
+    @Test
+    void getMonthlyStatisticsUsesSummaryPrimaryKey() {
+        assertSummaryIndexCond("getMonthlyStatistics", monthParams());
+    }
+
+    @Test
+    void getYearlyStatisticsUsesSummaryPrimaryKey() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("memberNo", 1L);
+        params.put("year", 2025);
+        assertSummaryIndexCond("getYearlyStatistics", params);
+    }
+
+    @Test
+    void findByAttendanceNoPrunesToWorkDatePartition() {
+        assertPrunedToMonthPartition("findByAttendanceNo");
+    }
+
+    @Test
+    void clearNeedsReviewPrunesToWorkDatePartition() {
+        assertPrunedToMonthPartition("clearNeedsReview");
+    }
+
+    @Test
+    void deleteAttendancePrunesToWorkDatePartition() {
+        assertPrunedToMonthPartition("deleteAttendance");
+    }
+
+    private void assertPrunedToMonthPartition(String statementId) {
+        // 테스트 트랜잭션 안에서 만든 파티션은 롤백으로 함께 사라짐
+        jdbcTemplate.queryForObject("SELECT hr.ensure_attendance_partition(DATE '2025-03-01')", Boolean.class);
+        jdbcTemplate.queryForObject("SELECT hr.ensure_attendance_partition(DATE '2025-04-01')", Boolean.class);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("attendanceNo", 1L);
+        params.put("workDate", LocalDate.of(2025, 3, 10));
+
+        String plan = explain(statementId, params);
+        assertThat(plan)
+                .as("%s plan:%n%s", statementId, plan)
+                .contains("attendance_202503")
+                .doesNotContain("attendance_202504")
+                .doesNotContain("attendance_default");
+    }
+
+    private Map<String, Object> monthParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("memberNo", 1L);
+        params.put("year", 2025);
+        params.put("month", 3);
+        return params;
+    }
+
+    private void assertWorkDateIndexCond(String statementId, Map<String, Object> params) {
+        String plan = explain(statementId, params);
+        assertThat(plan)
+                .as("%s plan:%n%s", statementId, plan)
+                .doesNotContain("Seq Scan on attendance")
+                .containsPattern("Index Cond: .*work_date >=");
+    }
+
+    private void assertSummaryIndexCond(String statementId, Map<String, Object> params) {
+        String plan = explain(statementId, params);
+        assertThat(plan)
+                .as("%s plan:%n%s", statementId, plan)
+                .doesNotContain("on attendance ")
+                .doesNotContain("Seq Scan on attendance_monthly_summary")
+                .containsPattern("Index Cond: .*summary_year =");
+    }
+}
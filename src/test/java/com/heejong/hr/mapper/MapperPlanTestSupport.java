@@ -0,0 +1,57 @@
+package com.heejong.hr.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 매퍼 SQL 실행 계획 테스트 공통 (매핑된 SQL 을 파라미터로 바인딩해 EXPLAIN)
+ */
+@SpringBootTest
+@Transactional
+abstract class MapperPlanTestSupport {
+
+    private final String namespace;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected MapperPlanTestSupport(Class<?> mapperType) {
+        this.namespace = mapperType.getName() + ".";
+    }
+
+    @BeforeEach
+    void disableSeqScan() {
+        // 테스트 DB는 데이터가 적어 순차 스캔이 선택되므로 인덱스 사용 가능 여부만 확인
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    /**
+     * 매퍼 구문의 실행 계획 (EXPLAIN 결과 줄을 이어 붙임)
+     */
+    protected String explain(String statementId, Map<String, Object> params) {
+        BoundSql boundSql = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(namespace + statementId)
+                .getBoundSql(params);
+
+        List<Object> args = new ArrayList<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            args.add(params.get(mapping.getProperty()));
+        }
+
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + boundSql.getSql(), String.class, args.toArray());
+        return String.join("\n", lines);
+    }
+}
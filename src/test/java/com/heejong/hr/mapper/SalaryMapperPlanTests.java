@@ -0,0 +1,47 @@
+package com.heejong.hr.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 급여 지급 내역 페이지 조회가 정렬 없이 키셋 인덱스 순서로 읽히는지,
+ * 지급월별 합계가 테이블 접근 없이 인덱스만으로 집계되는지 EXPLAIN 으로 확인
+ */
+class SalaryMapperPlanTests extends MapperPlanTestSupport {
+
+    SalaryMapperPlanTests() {
+        super(SalaryMapper.class);
+    }
+
+    @Test
+    void findPaymentPageReadsKeysetIndexInOrder() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("year", 2025);
+        params.put("month", null);
+        params.put("status", null);
+        params.put("cursor", null);
+        params.put("limit", 51);
+
+        String plan = explain("findPaymentPage", params);
+        assertThat(plan)
+                .as("findPaymentPage plan:%n%s", plan)
+                .contains("idx_salary_payment_period_keyset")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void getPaymentSummaryUsesIndexOnlyScan() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("year", 2025);
+        params.put("month", 3);
+
+        String plan = explain("getPaymentSummary", params);
+        assertThat(plan)
+                .as("getPaymentSummary plan:%n%s", plan)
+                .contains("Index Only Scan using idx_salary_payment_period_keyset");
+    }
+}
@@ -0,0 +1,86 @@
+package com.heejong.hr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.heejong.hr.entity.SalaryPayment;
+
+/**
+ * 원 단위 long 공제 계산이 기존 BigDecimal 계산(금액 x 공제율, 원 단위 HALF_UP)과 같은지 확인
+ */
+class DeductionRulesTests {
+
+    private final DeductionRules deductionRules = new DeductionRules(null);
+
+    @Test
+    void longPathMatchesBigDecimalPath() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            long amount = random.nextInt(50_000_000);
+            assertMatchesLegacy(BigDecimal.valueOf(amount));
+        }
+    }
+
+    @Test
+    void halfWonRoundsUp() {
+        // 0.0335 x 30 = 1.005 → 1, 0.045 x 100 = 4.5 → 5, 0.008 x 1_875 = 15 (정확히 나누어떨어짐)
+        for (long amount : new long[] {0, 1, 10, 30, 100, 1_875, 2_500_000, 3_333_333}) {
+            assertMatchesLegacy(BigDecimal.valueOf(amount));
+        }
+    }
+
+    @Test
+    void fractionalAmountUsesExactPath() {
+        assertMatchesLegacy(new BigDecimal("2500000.50"));
+        assertMatchesLegacy(new BigDecimal("1234567.49"));
+    }
+
+    @Test
+    void wholeAmountWithScaleKeepsScaleOnNetAmount() {
+        SalaryPayment payment = payment(new BigDecimal("3000000.00"));
+        deductionRules.apply(payment);
+        assertThat(payment.getNetAmount()).isEqualByComparingTo(legacy(new BigDecimal("3000000.00")).getNetAmount());
+    }
+
+    private void assertMatchesLegacy(BigDecimal amount) {
+        SalaryPayment actual = payment(amount);
+        deductionRules.apply(actual);
+        SalaryPayment expected = legacy(amount);
+
+        assertThat(actual.getIncomeTax()).as("incomeTax %s", amount).isEqualByComparingTo(expected.getIncomeTax());
+        assertThat(actual.getNationalPension()).as("nationalPension %s", amount).isEqualByComparingTo(expected.getNationalPension());
+        assertThat(actual.getHealthInsurance()).as("healthInsurance %s", amount).isEqualByComparingTo(expected.getHealthInsurance());
+        assertThat(actual.getEmploymentInsurance()).as("employmentInsurance %s", amount).isEqualByComparingTo(expected.getEmploymentInsurance());
+        assertThat(actual.getTotalDeduction()).as("totalDeduction %s", amount).isEqualByComparingTo(expected.getTotalDeduction());
+        assertThat(actual.getNetAmount()).as("netAmount %s", amount).isEqualByComparingTo(expected.getNetAmount());
+    }
+
+    private static SalaryPayment payment(BigDecimal totalAmount) {
+        SalaryPayment payment = new SalaryPayment();
+        payment.setPaymentYear(2025);
+        payment.setTotalAmount(totalAmount);
+        return payment;
+    }
+
+    // 기존 SalaryService 계산식
+    private static SalaryPayment legacy(BigDecimal totalAmount) {
+        SalaryPayment payment = payment(totalAmount);
+        BigDecimal incomeTax = totalAmount.multiply(new BigDecimal("0.05")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal nationalPension = totalAmount.multiply(new BigDecimal("0.045")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal healthInsurance = totalAmount.multiply(new BigDecimal("0.0335")).setScale(0, RoundingMode.HALF_UP);
+        BigDecimal employmentInsurance = totalAmount.multiply(new BigDecimal("0.008")).setScale(0, RoundingMode.HALF_UP);
+        payment.setIncomeTax(incomeTax);
+        payment.setNationalPension(nationalPension);
+        payment.setHealthInsurance(healthInsurance);
+        payment.setEmploymentInsurance(employmentInsurance);
+        BigDecimal totalDeduction = incomeTax.add(nationalPension).add(healthInsurance).add(employmentInsurance);
+        payment.setTotalDeduction(totalDeduction);
+        payment.setNetAmount(totalAmount.subtract(totalDeduction));
+        return payment;
+    }
+}
@@ -0,0 +1,137 @@
+package com.heejong.hr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.heejong.hr.entity.Salary;
+
+/**
+ * 급여 모의 계산이 급여 일괄 지급과 같은 규칙(지급월 급여 정보 일할 계산, 없으면 연봉, 초과근무수당)으로
+ * 기준 급여를 계산하는지, 시나리오 적용과 합계/차이 계산 확인 (기본 공제율)
+ */
+class PayrollSimulationServiceTests {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-15T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final DeductionRules deductionRules = new DeductionRules(null);
+    private final AttendancePayrollFeed feed = feed();
+    private final PayrollSimulationService service = new PayrollSimulationService(null, null, null,
+            new SalaryService(null, null, null, deductionRules, feed), feed, deductionRules, CLOCK);
+
+    // 회원 1: 급여 정보 있음 (연봉보다 우선), 회원 2: 연봉만, 회원 3: 둘 다 없음
+    private final List<PayrollSimulationService.MemberInput> inputs = List.of(
+            new PayrollSimulationService.MemberInput(1L, "a", "A", 3_000_000L),
+            new PayrollSimulationService.MemberInput(2L, "b", "B", 2_000_000L),
+            new PayrollSimulationService.MemberInput(3L, "c", "C", null));
+
+    private final SalaryHistory history = SalaryHistory.of(List.of(
+            version(1L, "2024-01-01", 3_000_000, 200_000),
+            version(1L, "2025-03-16", 3_100_000, 0)));
+
+    @Test
+    void scenarioConvertsPercentToPpm() {
+        PayrollSimulationService.Scenario scenario = PayrollSimulationService.Scenario.of(new BigDecimal("3.5"), null, null);
+
+        assertThat(scenario.raisePpm()).isEqualTo(35_000);
+        assertThat(scenario.allowanceDelta()).isZero();
+        assertThat(scenario.bonus()).isZero();
+        assertThat(PayrollSimulationService.Scenario.of(new BigDecimal("2.25"), 10_000L, 5_000L).raisePpm()).isEqualTo(22_500);
+    }
+
+    @Test
+    void totalsSumMembersAndDifferenceIsSimulatedMinusBaseline() {
+        PayrollSimulationService.Scenario scenario = PayrollSimulationService.Scenario.of(BigDecimal.TEN, 100_000L, 50_000L);
+
+        Map<String, Object> result = service.calculate(inputs, history, Map.of(), 2025, 1, scenario, null, false);
+
+        // 급여 정보도 연봉도 없는 회원 3 은 제외
+        assertThat(result.get("memberCount")).isEqualTo(2);
+
+        // 기준: 급여 정보 3,000,000 + 식대 200,000 (공제 436,800) / 연봉 2,000,000 (공제 273,000)
+        Map<String, Object> baseline = section(result, "baseline");
+        assertThat(baseline.get("totalAmount")).isEqualTo(5_200_000L);
+        assertThat(baseline.get("totalDeduction")).isEqualTo(709_800L);
+        assertThat(baseline.get("netAmount")).isEqualTo(4_490_200L);
+
+        // 적용 후: 3,300,000 + 200,000 + 150,000 (공제 498,225) / 2,200,000 + 150,000 (공제 320,775)
+        Map<String, Object> simulated = section(result, "simulated");
+        assertThat(simulated.get("totalAmount")).isEqualTo(6_000_000L);
+        assertThat(simulated.get("incomeTax")).isEqualTo(300_000L);
+        assertThat(simulated.get("totalDeduction")).isEqualTo(819_000L);
+        assertThat(simulated.get("netAmount")).isEqualTo(5_181_000L);
+
+        Map<String, Object> difference = section(result, "difference");
+        assertThat(difference.get("totalAmount")).isEqualTo(800_000L);
+        assertThat(difference.get("totalDeduction")).isEqualTo(109_200L);
+        assertThat(difference.get("netAmount")).isEqualTo(690_800L);
+    }
+
+    @Test
+    void memberFilterLimitsTargets() {
+        Map<String, Object> result = service.calculate(inputs, history, Map.of(), 2025, 1,
+                PayrollSimulationService.Scenario.of(null, null, null), Set.of(2L), false);
+
+        assertThat(result.get("memberCount")).isEqualTo(1);
+        assertThat(section(result, "baseline").get("totalAmount")).isEqualTo(2_000_000L);
+        assertThat(section(result, "difference").get("netAmount")).isEqualTo(0L);
+    }
+
+    @Test
+    void salaryBasisMatchesPayrollRunForMonth() {
+        PayrollSimulationService.Scenario none = PayrollSimulationService.Scenario.of(null, null, null);
+
+        // 2025-03-16 변경: 기본급 3,000,000 x 15/31 + 3,100,000 x 16/31, 식대 200,000 x 15/31 (원 단위 반올림)
+        Map<String, Object> march = service.calculate(inputs, history, Map.of(), 2025, 3, none, Set.of(1L), false);
+        assertThat(section(march, "baseline").get("totalAmount")).isEqualTo(3_148_387L);
+
+        // 급여 정보가 적용되기 전 월은 급여 일괄 지급처럼 연봉 기준
+        Map<String, Object> before = service.calculate(inputs, history, Map.of(), 2023, 12, none, Set.of(1L), false);
+        assertThat(section(before, "baseline").get("totalAmount")).isEqualTo(3_000_000L);
+    }
+
+    @Test
+    void overtimeIsRecalculatedOnRaisedBase() {
+        // 초과근무 600분: 2,000,000 x 600 x 1.5 / (209 x 60) = 143,541, 인상 후 2,200,000 기준 157,895
+        Map<Long, MonthlyWork> works = Map.of(2L, new MonthlyWork(20, 9_600, 600));
+
+        Map<String, Object> result = service.calculate(inputs, history, works, 2025, 1,
+                PayrollSimulationService.Scenario.of(BigDecimal.TEN, null, null), Set.of(2L), false);
+
+        assertThat(section(result, "baseline").get("totalAmount")).isEqualTo(2_143_541L);
+        assertThat(section(result, "simulated").get("totalAmount")).isEqualTo(2_357_895L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> result, String key) {
+        return (Map<String, Object>) result.get(key);
+    }
+
+    private static AttendancePayrollFeed feed() {
+        AttendancePayrollFeed feed = new AttendancePayrollFeed(null, CLOCK);
+        ReflectionTestUtils.setField(feed, "overtimeRate", new BigDecimal("1.5"));
+        ReflectionTestUtils.setField(feed, "monthlyStandardHours", 209);
+        return feed;
+    }
+
+    private static Salary version(Long memberNo, String effectiveDate, long baseSalary, long mealAllowance) {
+        Salary salary = new Salary();
+        salary.setMemberNo(memberNo);
+        salary.setEffectiveDate(LocalDate.parse(effectiveDate));
+        salary.setBaseSalary(BigDecimal.valueOf(baseSalary));
+        salary.setPositionAllowance(BigDecimal.ZERO);
+        salary.setMealAllowance(BigDecimal.valueOf(mealAllowance));
+        salary.setTransportAllowance(BigDecimal.ZERO);
+        return salary;
+    }
+}
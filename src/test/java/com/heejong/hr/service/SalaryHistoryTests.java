@@ -0,0 +1,62 @@
+package com.heejong.hr.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.heejong.hr.entity.Salary;
+
+/**
+ * 적용일별 급여 정보 as-of 조회와 지급월 구간 나누기 확인
+ */
+class SalaryHistoryTests {
+
+    private final SalaryHistory history = SalaryHistory.of(List.of(
+            version(1L, "2025-03-16", 3_100_000),
+            version(1L, "2024-01-01", 3_000_000),
+            version(2L, "2025-04-01", 2_500_000)));
+
+    @Test
+    void asOfReturnsVersionInForce() {
+        assertThat(history.asOf(1L, LocalDate.parse("2023-12-31"))).isNull();
+        assertThat(history.asOf(1L, LocalDate.parse("2024-01-01")).getBaseSalary()).isEqualByComparingTo("3000000");
+        assertThat(history.asOf(1L, LocalDate.parse("2025-03-15")).getBaseSalary()).isEqualByComparingTo("3000000");
+        assertThat(history.asOf(1L, LocalDate.parse("2025-03-16")).getBaseSalary()).isEqualByComparingTo("3100000");
+        assertThat(history.asOf(3L, LocalDate.parse("2025-03-16"))).isNull();
+    }
+
+    @Test
+    void segmentsSplitMonthAtEffectiveDate() {
+        List<SalaryHistory.Segment> segments =
+                history.segments(1L, LocalDate.parse("2025-03-01"), LocalDate.parse("2025-03-31"));
+
+        assertThat(segments).hasSize(2);
+        assertThat(segments.get(0).days()).isEqualTo(15);
+        assertThat(segments.get(0).salary().getBaseSalary()).isEqualByComparingTo("3000000");
+        assertThat(segments.get(1).days()).isEqualTo(16);
+        assertThat(segments.get(1).salary().getBaseSalary()).isEqualByComparingTo("3100000");
+    }
+
+    @Test
+    void segmentsSkipDaysBeforeFirstVersion() {
+        assertThat(history.segments(2L, LocalDate.parse("2025-03-01"), LocalDate.parse("2025-03-31"))).isEmpty();
+
+        List<SalaryHistory.Segment> april =
+                history.segments(2L, LocalDate.parse("2025-04-01"), LocalDate.parse("2025-04-30"));
+        assertThat(april).hasSize(1);
+        assertThat(april.get(0).days()).isEqualTo(30);
+    }
+
+    private static Salary version(Long memberNo, String effectiveDate, long baseSalary) {
+        Salary salary = new Salary();
+        salary.setMemberNo(memberNo);
+        salary.setEffectiveDate(LocalDate.parse(effectiveDate));
+        salary.setBaseSalary(BigDecimal.valueOf(baseSalary));
+        salary.setStatus("ACTIVE");
+        return salary;
+    }
+}
@@ -0,0 +1,242 @@
+package com.heejong.hr.simulation;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import com.heejong.hr.entity.Member;
+import com.heejong.hr.mapper.LoginMapper;
+import com.heejong.hr.service.AttendanceService;
+
+/**
+ * 출퇴근 부하 시뮬레이션
+ *
+ * 가상 직원 N명이 한 달 동안 평일마다 출근/퇴근하는 흐름을 로컬 DB 에 재생하고,
+ * 작업별 처리량, 지연시간 백분위, 요청당 SQL 실행 횟수를 출력한다.
+ * 출퇴근 시각은 가상 시계로 지정하므로 한 달 분량을 실제 시간과 무관하게 재생할 수 있다.
+ *
+ * 기본 test 에서는 실행되지 않는다: ./gradlew simulateAttendance -Pemployees=10000 -Pthreads=32 -Pmonth=2026-09
+ * 생성한 가상 직원은 끝나면 삭제된다 (출퇴근/월별 요약은 FK CASCADE 로 함께 삭제).
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "attendance.simulation.enabled", matches = "true")
+class AttendanceLoadSimulation {
+
+    // 출근: 08:50 기준 표준편차 12분, 퇴근: 18:10 기준 표준편차 40분, 하루 결근 확률 3%
+    private static final LocalTime CHECK_IN_MEAN = LocalTime.of(8, 50);
+    private static final int CHECK_IN_STDDEV_SECONDS = 12 * 60;
+    private static final LocalTime CHECK_OUT_MEAN = LocalTime.of(18, 10);
+    private static final int CHECK_OUT_STDDEV_SECONDS = 40 * 60;
+    private static final double ABSENT_RATE = 0.03;
+
+    @TestConfiguration
+    static class SimulationConfig {
+
+        @Bean
+        @Primary
+        SimulatedClock simulatedClock() {
+            return new SimulatedClock(ZoneId.systemDefault());
+        }
+
+        @Bean
+        RoundTripCounter roundTripCounter() {
+            return new RoundTripCounter();
+        }
+    }
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private LoginMapper loginMapper;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private RoundTripCounter roundTripCounter;
+
+    private final List<String> createdEmails = new ArrayList<>();
+
+    @Test
+    void simulateMonth() throws Exception {
+        int employees = Integer.getInteger("attendance.simulation.employees", 1000);
+        int threads = Integer.getInteger("attendance.simulation.threads", 16);
+        String monthValue = System.getProperty("attendance.simulation.month");
+        YearMonth month = monthValue != null ? YearMonth.parse(monthValue) : YearMonth.now().minusMonths(1);
+        Random random = new Random(Long.getLong("attendance.simulation.seed", 42L));
+        SimulatedClock simulatedClock = (SimulatedClock) clock;
+
+        List<Long> memberNos = createEmployees(employees);
+
+        Map<String, OperationStats> stats = new LinkedHashMap<>();
+        stats.put("checkIn", new OperationStats());
+        stats.put("checkOut", new OperationStats());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    continue;
+                }
+
+                List<Event> checkIns = new ArrayList<>();
+                List<Event> checkOuts = new ArrayList<>();
+                for (Long memberNo : memberNos) {
+                    if (random.nextDouble() < ABSENT_RATE) {
+                        continue;
+                    }
+                    checkIns.add(new Event(memberNo, sample(random, date, CHECK_IN_MEAN, CHECK_IN_STDDEV_SECONDS)));
+                    checkOuts.add(new Event(memberNo, sample(random, date, CHECK_OUT_MEAN, CHECK_OUT_STDDEV_SECONDS)));
+                }
+
+                replay(executor, simulatedClock, checkIns, stats.get("checkIn"),
+                        memberNo -> attendanceService.checkIn(memberNo, null));
+                replay(executor, simulatedClock, checkOuts, stats.get("checkOut"),
+                        memberNo -> attendanceService.checkOut(memberNo));
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        System.out.printf("%n출퇴근 부하 시뮬레이션: %s, 직원 %d명, 스레드 %d%n", month, employees, threads);
+        System.out.printf("%-10s %10s %8s %12s %9s %9s %9s %9s %12s%n",
+                "operation", "count", "errors", "ops/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "sql/request");
+        stats.forEach((name, stat) -> System.out.println(stat.report(name)));
+    }
+
+    @AfterEach
+    void removeEmployees() {
+        for (String email : createdEmails) {
+            loginMapper.deleteMember(email);
+        }
+        createdEmails.clear();
+    }
+
+    /**
+     * 하루치 이벤트를 시각 순서대로 제출하고 모두 끝날 때까지 대기
+     */
+    private void replay(ExecutorService executor, SimulatedClock simulatedClock, List<Event> events,
+                        OperationStats stat, MemberOperation operation) throws Exception {
+        events.sort(Comparator.comparing(Event::at));
+
+        List<Future<?>> futures = new ArrayList<>(events.size());
+        long phaseStart = System.nanoTime();
+        for (Event event : events) {
+            futures.add(executor.submit(() -> {
+                simulatedClock.set(event.at());
+                roundTripCounter.reset();
+                long start = System.nanoTime();
+                try {
+                    operation.run(event.memberNo());
+                    stat.record(System.nanoTime() - start, roundTripCounter.get());
+                } catch (RuntimeException e) {
+                    stat.errors.increment();
+                } finally {
+                    simulatedClock.clear();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        stat.elapsedNanos.add(System.nanoTime() - phaseStart);
+    }
+
+    private List<Long> createEmployees(int count) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Long> memberNos = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String id = String.format("sim-%s-%05d", runId, i);
+            Member member = new Member();
+            member.setId(id);
+            member.setEmail(id + "@simulation.local");
+            member.setPassword("simulation");
+            member.setName("가상직원" + i);
+            member.setRole("ROLE_USER");
+            loginMapper.insertMember(member);
+            createdEmails.add(member.getEmail());
+            memberNos.add(loginMapper.findByEmail(member.getEmail()).getMemberNo());
+        }
+        return memberNos;
+    }
+
+    private static LocalDateTime sample(Random random, LocalDate date, LocalTime mean, int stddevSeconds) {
+        long offset = Math.round(random.nextGaussian() * stddevSeconds);
+        return date.atTime(mean).plusSeconds(offset);
+    }
+
+    private record Event(Long memberNo, LocalDateTime at) {
+    }
+
+    @FunctionalInterface
+    private interface MemberOperation {
+        void run(Long memberNo);
+    }
+
+    /**
+     * 작업별 지연시간/SQL 실행 횟수 누적
+     */
+    private static final class OperationStats {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+
+        void record(long nanos, int sqlCount) {
+            latencies.add(nanos);
+            roundTrips.add(sqlCount);
+        }
+
+        String report(String name) {
+            List<Long> sorted;
+            synchronized (latencies) {
+                sorted = new ArrayList<>(latencies);
+            }
+            Collections.sort(sorted);
+            int count = sorted.size();
+            double seconds = elapsedNanos.sum() / 1_000_000_000.0;
+            return String.format("%-10s %10d %8d %12.1f %9.2f %9.2f %9.2f %9.2f %12.2f",
+                    name, count, errors.sum(),
+                    seconds > 0 ? count / seconds : 0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    count > 0 ? sorted.get(count - 1) / 1_000_000.0 : 0,
+                    count > 0 ? (double) roundTrips.sum() / count : 0);
+        }
+
+        private static double percentile(List<Long> sorted, double p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.heejong.hr.simulation;
+
+import java.sql.Statement;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * 스레드별 SQL 실행 횟수 집계 (MyBatis 가 실제로 JDBC 문장을 실행한 횟수, 커밋 제외)
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}),
+        @Signature(type = StatementHandler.class, method = "queryCursor", args = {Statement.class}),
+        @Signature(type = StatementHandler.class, method = "update", args = {Statement.class})
+})
+class RoundTripCounter implements Interceptor {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        count.get()[0]++;
+        return invocation.proceed();
+    }
+
+    void reset() {
+        count.get()[0] = 0;
+    }
+
+    int get() {
+        return count.get()[0];
+    }
+}
@@ -0,0 +1,45 @@
+package com.heejong.hr.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 시뮬레이션용 시계
+ *
+ * 작업 스레드마다 가상 시각을 따로 지정할 수 있고, 지정하지 않은 스레드는 실제 시각을 쓴다.
+ */
+class SimulatedClock extends Clock {
+
+    private final ZoneId zone;
+    private final ThreadLocal<Instant> current = new ThreadLocal<>();
+
+    SimulatedClock(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    void set(LocalDateTime dateTime) {
+        current.set(dateTime.atZone(zone).toInstant());
+    }
+
+    void clear() {
+        current.remove();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return Clock.system(zone);
+    }
+
+    @Override
+    public Instant instant() {
+        Instant instant = current.get();
+        return instant != null ? instant : Instant.now();
+    }
+}